@@ -3,8 +3,10 @@ package com.example.assetManagementSystemServer;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class AssetManagementSystemServerApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,47 @@
+package com.example.assetManagementSystemServer.base.export;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 流式导出格式
+ */
+public enum ExportFormat {
+    /**
+     * 逗号分隔值（UTF-8 带 BOM，便于 Excel 直接打开）
+     */
+    CSV("text/csv", "csv"),
+    /**
+     * 每行一个 JSON 对象
+     */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return MediaType.parseMediaType(contentType + ";charset=UTF-8");
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 按名称解析（不区分大小写）
+     * @param value 请求参数值
+     * @return 对应格式
+     */
+    public static ExportFormat fromParam(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("不支持的导出格式: " + value);
+    }
+}
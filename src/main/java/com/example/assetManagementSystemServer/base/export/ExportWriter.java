@@ -0,0 +1,106 @@
+package com.example.assetManagementSystemServer.base.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 导出行写入器
+ * 逐行写出，不在内存中累积结果
+ */
+public class ExportWriter {
+
+    private final ExportFormat format;
+    private final List<String> columns;
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+
+    public ExportWriter(ExportFormat format, List<String> columns, Writer writer, ObjectMapper objectMapper) {
+        this.format = format;
+        this.columns = columns;
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 写出表头（仅 CSV）
+     */
+    public void writeHeader() throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write('\uFEFF');
+            writeCsvLine(columns.toArray());
+        }
+    }
+
+    /**
+     * 写出一行
+     * @param values 与列顺序一致的取值
+     */
+    public void writeRow(Object[] values) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(values);
+            return;
+        }
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            row.put(columns.get(i), values[i]);
+        }
+        writer.write(objectMapper.writeValueAsString(row));
+        writer.write('\n');
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(toCsvValue(values[i])));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * 标量直接转字符串，集合、Map 等复合值转为 JSON；文本值做公式注入防护
+     */
+    private String toCsvValue(Object value) throws IOException {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof CharSequence text) {
+            return neutralizeFormula(text.toString());
+        }
+        if (value instanceof Number || value instanceof Boolean
+                || value instanceof Enum<?> || value instanceof Temporal || value instanceof Date) {
+            return value.toString();
+        }
+        return objectMapper.writeValueAsString(value);
+    }
+
+    /**
+     * 以 = + - @ 或制表符、回车开头的文本会被电子表格当作公式执行，前置单引号使其按文本显示
+     */
+    static String neutralizeFormula(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.assetManagementSystemServer.base.export;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 流式导出响应构建工具
+ */
+public final class StreamingExport {
+
+    private StreamingExport() {
+    }
+
+    /**
+     * 构建附件下载响应
+     * @param name   文件名（不含扩展名）
+     * @param format 导出格式
+     * @param body   响应体
+     */
+    public static ResponseEntity<StreamingResponseBody> of(String name, ExportFormat format, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension(), StandardCharsets.UTF_8)
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+}
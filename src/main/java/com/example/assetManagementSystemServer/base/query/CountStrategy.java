@@ -0,0 +1,37 @@
+package com.example.assetManagementSystemServer.base.query;
+
+/**
+ * 分页总数统计策略
+ */
+public enum CountStrategy {
+    /**
+     * 精确统计：执行 SELECT COUNT(*)
+     */
+    EXACT,
+    /**
+     * 缓存统计：按（实体, 过滤条件）缓存精确结果，经 BaseService.save/update 写入时失效
+     */
+    CACHED,
+    /**
+     * 估算统计：无过滤条件时读取表统计信息，有过滤条件时退化为缓存统计
+     */
+    ESTIMATED,
+    /**
+     * 不统计：多取一行判断是否还有下一页（Items.hasMore）
+     */
+    NONE;
+
+    /**
+     * 按名称解析（不区分大小写）
+     * @param value 请求参数值
+     * @return 对应策略，无法识别时返回 null
+     */
+    public static CountStrategy fromParam(String value) {
+        for (CountStrategy strategy : values()) {
+            if (strategy.name().equalsIgnoreCase(value.trim())) {
+                return strategy;
+            }
+        }
+        return null;
+    }
+}
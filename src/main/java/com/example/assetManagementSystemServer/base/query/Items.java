@@ -1,14 +1,22 @@
 package com.example.assetManagementSystemServer.base.query;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.util.List;
 
 /**
  * 分页结果记录类
+ * @param items 当前页数据
+ * @param total 总条数（未要求统计时为 null）
+ * @param next  游标分页模式下的下一页游标（无下一页或偏移分页时为 null）
+ * @param hasMore 是否还有下一页（未做精确统计时通过多取一行判断，否则为 null）
  */
-public record Items<T>(List<T> items, Long total) {
+public record Items<T>(List<T> items,
+                       Long total,
+                       @JsonInclude(JsonInclude.Include.NON_NULL) String next,
+                       @JsonInclude(JsonInclude.Include.NON_NULL) Boolean hasMore) {
 
-}
\ No newline at end of file
+    public Items(List<T> items, Long total) {
+        this(items, total, null, null);
+    }
+}
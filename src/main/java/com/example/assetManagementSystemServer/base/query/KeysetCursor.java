@@ -0,0 +1,141 @@
+package com.example.assetManagementSystemServer.base.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 游标分页的游标编解码工具
+ * 游标为排序键（含主键）取值的 Base64URL 编码 JSON，对前端不透明。
+ * 游标中只保存取值，解码时的类型由调用方按排序属性的元模型类型给出，不信任游标内容决定加载哪个类；
+ * 日期时间（java.util.Date 及其子类）按毫秒时间戳保存，其余类型按字符串形式保存
+ */
+public final class KeysetCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, String>> CURSOR_TYPE = new TypeReference<>() {
+    };
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * 将滚动位置编码为游标
+     * @param position 最后一条记录所在的位置
+     * @return 不透明游标字符串
+     */
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("仅支持 keyset 滚动位置");
+        }
+        Map<String, String> encoded = new LinkedHashMap<>();
+        keyset.getKeys().forEach((key, value) -> encoded.put(key, encodeValue(value)));
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(MAPPER.writeValueAsBytes(encoded));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("游标编码失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 将游标解码为滚动位置
+     * @param cursor   游标字符串（为空表示从第一页开始）
+     * @param keyTypes 排序键到属性 Java 类型的映射（未知的键返回 null）
+     * @return keyset 滚动位置
+     */
+    public static KeysetScrollPosition decode(String cursor, Function<String, Class<?>> keyTypes) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            Map<String, String> encoded = MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), CURSOR_TYPE);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            encoded.forEach((key, value) -> {
+                Class<?> type = keyTypes.apply(key);
+                if (type == null) {
+                    throw new IllegalArgumentException("未知的游标键: " + key);
+                }
+                keys.put(key, decodeValue(type, value));
+            });
+            return ScrollPosition.forward(keys);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("无效的游标: " + cursor, e);
+        }
+    }
+
+    /**
+     * 编码单个取值
+     */
+    private static String encodeValue(Object value) {
+        if (value == null) {
+            throw new IllegalStateException("游标排序键不能为空值");
+        }
+        if (value instanceof Date date) {
+            return Long.toString(date.getTime());
+        }
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        return value.toString();
+    }
+
+    /**
+     * 按属性类型解码单个取值
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object decodeValue(Class<?> type, String value) {
+        if (type.isEnum()) {
+            return Enum.valueOf((Class) type, value);
+        }
+        if (type == Long.class || type == long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == Integer.class || type == int.class) {
+            return Integer.valueOf(value);
+        }
+        if (type == Short.class || type == short.class) {
+            return Short.valueOf(value);
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return Boolean.valueOf(value);
+        }
+        if (type == Double.class || type == double.class) {
+            return Double.valueOf(value);
+        }
+        if (type == String.class) {
+            return value;
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal(value);
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.parse(value);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+        if (type == Timestamp.class) {
+            return new Timestamp(Long.parseLong(value));
+        }
+        if (type == java.sql.Date.class) {
+            return new java.sql.Date(Long.parseLong(value));
+        }
+        if (type == Date.class) {
+            return new Date(Long.parseLong(value));
+        }
+        throw new IllegalArgumentException("不支持的游标取值类型: " + type.getSimpleName());
+    }
+}
@@ -4,6 +4,9 @@ import com.example.assetManagementSystemServer.enums.BucketType;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
 
 @Data
 @AllArgsConstructor
@@ -12,6 +15,29 @@ public class ListParam {
     private Integer limit = 10;
     private Integer offset = 0;
     private boolean count = true;
+    /**
+     * 总数统计策略（null 表示使用实体默认策略）
+     */
+    private CountStrategy countStrategy;
     private String filter;
     private BucketType bucketType;
-}
\ No newline at end of file
+    /**
+     * 游标分页的游标（null 表示偏移分页；空字符串表示游标分页的第一页）
+     */
+    private String cursor;
+    /**
+     * 排序（仅允许实体服务声明的可排序字段）
+     */
+    private Sort sort = Sort.unsorted();
+    /**
+     * 返回字段（null 表示返回完整实体；指定时按字段投影查询）
+     */
+    private List<String> fields;
+
+    /**
+     * 是否为游标分页模式
+     */
+    public boolean isKeysetMode() {
+        return cursor != null;
+    }
+}
@@ -1,18 +1,26 @@
 package com.example.assetManagementSystemServer.base.query;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Sort;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * 自动解析ListParam参数的解析器
  * 处理以下参数：
  * - limit
  * - offset
- * - count
+ * - count（布尔值，或 exact/cached/estimated/none 指定统计策略）
  * - filter
+ * - cursor（出现即启用游标分页，值为空表示第一页）
+ * - sort（如 sort=purchaseDate,-id，前缀 - 表示降序）
+ * - fields（如 fields=id,name，仅返回指定字段）
  */
 public class ListParamResolver implements HandlerMethodArgumentResolver {
 
@@ -45,12 +53,37 @@ public class ListParamResolver implements HandlerMethodArgumentResolver {
         // 解析count参数
         String count = webRequest.getParameter("count");
         if (count != null && !count.isEmpty()) {
-            param.setCount(parseBooleanSafely(count));
+            CountStrategy strategy = CountStrategy.fromParam(count);
+            if (strategy != null) {
+                param.setCountStrategy(strategy);
+                param.setCount(strategy != CountStrategy.NONE);
+            } else {
+                param.setCount(parseBooleanSafely(count));
+            }
         }
 
         // 直接传递filter字符串（保留原始值）
         param.setFilter(webRequest.getParameter("filter"));
 
+        // 解析cursor参数（保留空字符串以区分游标分页的第一页）
+        param.setCursor(webRequest.getParameter("cursor"));
+
+        // 解析sort参数（字段合法性由对应服务的白名单校验）
+        String sort = webRequest.getParameter("sort");
+        if (sort != null && !sort.isBlank()) {
+            param.setSort(parseSort(sort));
+        }
+
+        // 解析fields参数（逗号分隔，字段合法性由 BaseService 按实体元模型校验）
+        String fields = webRequest.getParameter("fields");
+        if (fields != null && !fields.isBlank()) {
+            param.setFields(Arrays.stream(fields.split(","))
+                    .map(String::trim)
+                    .filter(field -> !field.isEmpty())
+                    .distinct()
+                    .toList());
+        }
+
         return param;
     }
 
@@ -68,6 +101,25 @@ public class ListParamResolver implements HandlerMethodArgumentResolver {
         }
     }
 
+    /**
+     * 解析排序参数
+     * @param value 逗号分隔的字段列表，前缀 - 表示降序，+ 或无前缀表示升序
+     */
+    private Sort parseSort(String value) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String part : value.split(",")) {
+            String field = part.trim();
+            if (field.startsWith("-")) {
+                orders.add(Sort.Order.desc(field.substring(1).trim()));
+            } else if (field.startsWith("+")) {
+                orders.add(Sort.Order.asc(field.substring(1).trim()));
+            } else if (!field.isEmpty()) {
+                orders.add(Sort.Order.asc(field));
+            }
+        }
+        return Sort.by(orders);
+    }
+
     /**
      * 安全解析布尔值
      * @param value 字符串值（支持true/false/yes/no/1/0）
@@ -0,0 +1,75 @@
+package com.example.assetManagementSystemServer.base.query.filter;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * 已编译的单个比较条件（=、!=、>、>=、<、<=、like、ilike）
+ * 字段路径已拆分、字面量已按字段类型预先转换，可跨请求复用；
+ * 数值、日期时间与枚举支持范围比较，字符串支持模糊匹配
+ *
+ * @param path     实体属性路径（如 group_id 对应 ["group", "id"]）
+ * @param operator 操作符（小写）
+ * @param value    已转换为字段类型的字面量
+ */
+public record FilterCondition(String[] path, String operator, Object value) implements FilterNode {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Predicate toPredicate(Root<?> root, CriteriaBuilder cb) {
+        Path<?> fieldPath = FilterNode.resolvePath(root, path);
+        if (value instanceof Boolean boolValue) {
+            return buildBooleanPredicate(cb, (Path<Boolean>) fieldPath, boolValue);
+        }
+        if (value instanceof String strValue) {
+            return buildStringPredicate(cb, (Path<String>) fieldPath, strValue);
+        }
+        // 数值、日期时间、枚举等可比较类型
+        if (value instanceof Comparable<?> comparable) {
+            return buildComparablePredicate(cb, (Path<Comparable<Object>>) fieldPath, (Comparable<Object>) comparable);
+        }
+        throw new IllegalArgumentException("Unsupported value type for field: " + String.join("_", path));
+    }
+
+    /**
+     * 构建可比较类型条件（数值、日期时间、枚举）
+     */
+    private <C extends Comparable<? super C>> Predicate buildComparablePredicate(
+            CriteriaBuilder cb, Path<C> fieldPath, C compValue) {
+        return switch (operator) {
+            case "=" -> cb.equal(fieldPath, compValue);
+            case "!=" -> cb.notEqual(fieldPath, compValue);
+            case ">" -> cb.greaterThan(fieldPath, compValue);
+            case ">=" -> cb.greaterThanOrEqualTo(fieldPath, compValue);
+            case "<" -> cb.lessThan(fieldPath, compValue);
+            case "<=" -> cb.lessThanOrEqualTo(fieldPath, compValue);
+            default -> throw new IllegalArgumentException("Unsupported operator: " + operator);
+        };
+    }
+
+    /**
+     * 构建字符串类型条件
+     */
+    private Predicate buildStringPredicate(CriteriaBuilder cb, Path<String> fieldPath, String strValue) {
+        return switch (operator) {
+            case "=" -> cb.equal(fieldPath, strValue);
+            case "!=" -> cb.notEqual(fieldPath, strValue);
+            case "like" -> cb.like(fieldPath, "%" + strValue + "%");
+            case "ilike" -> cb.like(cb.lower(fieldPath), "%" + strValue.toLowerCase() + "%");
+            default -> throw new IllegalArgumentException("Unsupported operator: " + operator);
+        };
+    }
+
+    /**
+     * 构建布尔类型条件
+     */
+    private Predicate buildBooleanPredicate(CriteriaBuilder cb, Path<Boolean> fieldPath, Boolean boolValue) {
+        return switch (operator) {
+            case "=" -> cb.equal(fieldPath, boolValue);
+            case "!=" -> cb.notEqual(fieldPath, boolValue);
+            default -> throw new IllegalArgumentException("Unsupported boolean operator: " + operator);
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.assetManagementSystemServer.base.query.filter;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.List;
+
+/**
+ * 过滤表达式语法树节点
+ * 由 {@link FilterParser} 生成，字面量均已按字段类型转换，可跨请求复用
+ */
+public sealed interface FilterNode
+        permits FilterNode.And, FilterNode.Or, FilterNode.Not,
+        FilterNode.In, FilterNode.Between, FilterNode.IsNull, FilterCondition {
+
+    /**
+     * 在给定查询根上生成条件断言
+     */
+    Predicate toPredicate(Root<?> root, CriteriaBuilder cb);
+
+    /**
+     * 按属性路径逐级定位字段
+     */
+    static Path<Object> resolvePath(Root<?> root, String[] path) {
+        Path<Object> fieldPath = root.get(path[0]);
+        for (int i = 1; i < path.length; i++) {
+            fieldPath = fieldPath.get(path[i]);
+        }
+        return fieldPath;
+    }
+
+    /**
+     * AND 组合
+     */
+    record And(List<FilterNode> children) implements FilterNode {
+        @Override
+        public Predicate toPredicate(Root<?> root, CriteriaBuilder cb) {
+            return cb.and(toPredicates(children, root, cb));
+        }
+    }
+
+    /**
+     * OR 组合
+     */
+    record Or(List<FilterNode> children) implements FilterNode {
+        @Override
+        public Predicate toPredicate(Root<?> root, CriteriaBuilder cb) {
+            return cb.or(toPredicates(children, root, cb));
+        }
+    }
+
+    /**
+     * 取反
+     */
+    record Not(FilterNode child) implements FilterNode {
+        @Override
+        public Predicate toPredicate(Root<?> root, CriteriaBuilder cb) {
+            return cb.not(child.toPredicate(root, cb));
+        }
+    }
+
+    /**
+     * 集合匹配：field in (v1, v2, ...) / field not in (...)
+     */
+    record In(String[] path, List<Object> values, boolean negated) implements FilterNode {
+        @Override
+        public Predicate toPredicate(Root<?> root, CriteriaBuilder cb) {
+            Predicate in = resolvePath(root, path).in(values);
+            return negated ? cb.not(in) : in;
+        }
+    }
+
+    /**
+     * 区间匹配：field between low and high（闭区间）
+     */
+    record Between(String[] path, Object low, Object high) implements FilterNode {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Predicate toPredicate(Root<?> root, CriteriaBuilder cb) {
+            if (!(low instanceof Comparable) || !(high instanceof Comparable)) {
+                throw new IllegalArgumentException("Unsupported between operands for field: " + String.join("_", path));
+            }
+            Expression<Comparable> fieldPath = (Expression) resolvePath(root, path);
+            return cb.between(fieldPath, (Comparable) low, (Comparable) high);
+        }
+    }
+
+    /**
+     * 空值判断：field is null / field is not null
+     */
+    record IsNull(String[] path, boolean negated) implements FilterNode {
+        @Override
+        public Predicate toPredicate(Root<?> root, CriteriaBuilder cb) {
+            Path<Object> fieldPath = resolvePath(root, path);
+            return negated ? cb.isNotNull(fieldPath) : cb.isNull(fieldPath);
+        }
+    }
+
+    private static Predicate[] toPredicates(List<FilterNode> children, Root<?> root, CriteriaBuilder cb) {
+        Predicate[] predicates = new Predicate[children.size()];
+        for (int i = 0; i < predicates.length; i++) {
+            predicates[i] = children.get(i).toPredicate(root, cb);
+        }
+        return predicates;
+    }
+}
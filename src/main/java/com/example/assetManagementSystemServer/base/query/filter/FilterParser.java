@@ -0,0 +1,347 @@
+package com.example.assetManagementSystemServer.base.query.filter;
+
+import jakarta.persistence.criteria.Root;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 过滤表达式解析器（递归下降）
+ * <p>
+ * 支持的语法：
+ * <pre>
+ * expr       := orExpr
+ * orExpr     := andExpr ('or' andExpr)*
+ * andExpr    := unary ('and' unary)*
+ * unary      := 'not' unary | '(' expr ')' | condition
+ * condition  := field op literal
+ *             | field ['not'] 'in' '(' literal (',' literal)* ')'
+ *             | field 'between' literal 'and' literal
+ *             | field 'is' ['not'] 'null'
+ * op         := = | != | > | >= | < | <= | like | ilike
+ * </pre>
+ * 关键字不区分大小写；字面量可用单引号包裹（内部用 '' 表示单引号），
+ * 字段名中的下划线表示嵌套属性（如 group_id 对应 group.id）。
+ * 字面量按字段类型转换：整数、小数、BigDecimal、LocalDate、LocalDateTime（如 2024-01-01 或
+ * 2024-01-01T08:00:00）与枚举（按名称，不区分大小写）均支持范围比较。
+ */
+public final class FilterParser {
+
+    private static final Pattern FIELD_PATTERN = Pattern.compile("\\w+");
+
+    private final Root<?> root;
+    private final String filter;
+    private final List<Token> tokens;
+    private int pos;
+
+    private FilterParser(Root<?> root, String filter) {
+        this.root = root;
+        this.filter = filter;
+        this.tokens = tokenize(filter);
+    }
+
+    /**
+     * 解析过滤字符串
+     * @param root   查询根对象（用于确定字段类型）
+     * @param filter 过滤条件字符串
+     * @return 语法树根节点
+     * @throws IllegalArgumentException 语法错误或字段不存在时抛出
+     */
+    public static FilterNode parse(Root<?> root, String filter) {
+        FilterParser parser = new FilterParser(root, filter);
+        FilterNode node = parser.parseOr();
+        if (!parser.atEnd()) {
+            throw parser.error("unexpected token '" + parser.peek().text + "'");
+        }
+        return node;
+    }
+
+    //================= 语法分析 =================//
+
+    private FilterNode parseOr() {
+        List<FilterNode> children = new ArrayList<>();
+        children.add(parseAnd());
+        while (acceptKeyword("or")) {
+            children.add(parseAnd());
+        }
+        return children.size() == 1 ? children.get(0) : new FilterNode.Or(List.copyOf(children));
+    }
+
+    private FilterNode parseAnd() {
+        List<FilterNode> children = new ArrayList<>();
+        children.add(parseUnary());
+        while (acceptKeyword("and")) {
+            children.add(parseUnary());
+        }
+        return children.size() == 1 ? children.get(0) : new FilterNode.And(List.copyOf(children));
+    }
+
+    private FilterNode parseUnary() {
+        if (acceptKeyword("not")) {
+            return new FilterNode.Not(parseUnary());
+        }
+        if (accept(TokenType.LPAREN)) {
+            FilterNode node = parseOr();
+            expect(TokenType.RPAREN, "')'");
+            return node;
+        }
+        return parseCondition();
+    }
+
+    private FilterNode parseCondition() {
+        Token fieldToken = expect(TokenType.WORD, "field name");
+        if (!FIELD_PATTERN.matcher(fieldToken.text).matches()) {
+            throw error("invalid field name '" + fieldToken.text + "'");
+        }
+        String[] path = fieldToken.text.split("_");
+        Class<?> fieldType = resolveType(path);
+
+        if (peek().type == TokenType.OPERATOR) {
+            String operator = next().text;
+            return new FilterCondition(path, operator, convert(fieldType, parseLiteral()));
+        }
+        if (acceptKeyword("like")) {
+            return new FilterCondition(path, "like", convert(fieldType, parseLiteral()));
+        }
+        if (acceptKeyword("ilike")) {
+            return new FilterCondition(path, "ilike", convert(fieldType, parseLiteral()));
+        }
+        if (acceptKeyword("between")) {
+            Object low = convert(fieldType, parseLiteral());
+            expectKeyword("and");
+            Object high = convert(fieldType, parseLiteral());
+            return new FilterNode.Between(path, low, high);
+        }
+        if (acceptKeyword("is")) {
+            boolean negated = acceptKeyword("not");
+            expectKeyword("null");
+            return new FilterNode.IsNull(path, negated);
+        }
+        boolean negated = acceptKeyword("not");
+        if (acceptKeyword("in")) {
+            return new FilterNode.In(path, parseLiteralList(fieldType), negated);
+        }
+        throw error("expected operator after '" + fieldToken.text + "'");
+    }
+
+    private List<Object> parseLiteralList(Class<?> fieldType) {
+        expect(TokenType.LPAREN, "'('");
+        List<Object> values = new ArrayList<>();
+        do {
+            values.add(convert(fieldType, parseLiteral()));
+        } while (accept(TokenType.COMMA));
+        expect(TokenType.RPAREN, "')'");
+        return List.copyOf(values);
+    }
+
+    private String parseLiteral() {
+        Token token = next();
+        return switch (token.type) {
+            case STRING -> token.text;
+            // 兼容旧语法：裸字面量首尾的 % 被忽略（like 本身即为包含匹配）
+            case WORD -> token.text.replaceAll("^%|%$", "");
+            default -> throw error("expected value but found '" + token.text + "'");
+        };
+    }
+
+    private Class<?> resolveType(String[] path) {
+        try {
+            return FilterNode.resolvePath(root, path).getJavaType();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw error("unknown field '" + String.join("_", path) + "'");
+        }
+    }
+
+    /**
+     * 按字段类型预先转换字面量
+     * 数值、日期时间、枚举转换为字段类型后可参与范围比较，其余类型按字符串处理
+     */
+    private Object convert(Class<?> type, String value) {
+        try {
+            if (type == Integer.class || type == int.class) {
+                return Integer.parseInt(value);
+            }
+            if (type == Long.class || type == long.class) {
+                return Long.parseLong(value);
+            }
+            if (type == Double.class || type == double.class) {
+                return Double.parseDouble(value);
+            }
+            if (type == BigDecimal.class) {
+                return new BigDecimal(value);
+            }
+        } catch (NumberFormatException e) {
+            throw error("invalid number '" + value + "'");
+        }
+        try {
+            if (type == LocalDate.class) {
+                return LocalDate.parse(value);
+            }
+            if (type == LocalDateTime.class) {
+                return parseDateTime(value);
+            }
+        } catch (DateTimeParseException e) {
+            throw error("invalid date '" + value + "'");
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return Boolean.parseBoolean(value);
+        }
+        if (type.isEnum()) {
+            return parseEnum(type, value);
+        }
+        return value;
+    }
+
+    /**
+     * 解析日期时间：支持 yyyy-MM-dd（当天零点）、yyyy-MM-ddTHH:mm[:ss] 与 yyyy-MM-dd HH:mm[:ss]
+     */
+    private static LocalDateTime parseDateTime(String value) {
+        if (value.length() == 10) {
+            return LocalDate.parse(value).atStartOfDay();
+        }
+        return LocalDateTime.parse(value.replace(' ', 'T'));
+    }
+
+    /**
+     * 按名称解析枚举（不区分大小写）
+     */
+    private Object parseEnum(Class<?> type, String value) {
+        for (Object constant : type.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equalsIgnoreCase(value)) {
+                return constant;
+            }
+        }
+        throw error("invalid value '" + value + "' for " + type.getSimpleName());
+    }
+
+    //================= Token 操作 =================//
+
+    private boolean atEnd() {
+        return pos >= tokens.size();
+    }
+
+    private Token peek() {
+        return atEnd() ? Token.EOF : tokens.get(pos);
+    }
+
+    private Token next() {
+        Token token = peek();
+        if (token.type == TokenType.EOF) {
+            throw error("unexpected end of filter");
+        }
+        pos++;
+        return token;
+    }
+
+    private boolean accept(TokenType type) {
+        if (peek().type == type) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private Token expect(TokenType type, String description) {
+        Token token = peek();
+        if (token.type != type) {
+            throw error("expected " + description + " but found '" + token.text + "'");
+        }
+        pos++;
+        return token;
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        Token token = peek();
+        if (token.type == TokenType.WORD && token.text.equalsIgnoreCase(keyword)) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!acceptKeyword(keyword)) {
+            throw error("expected '" + keyword + "' but found '" + peek().text + "'");
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Invalid filter [" + filter + "]: " + message);
+    }
+
+    //================= 词法分析 =================//
+
+    private static List<Token> tokenize(String filter) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        int length = filter.length();
+        while (i < length) {
+            char c = filter.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(') {
+                tokens.add(new Token(TokenType.LPAREN, "("));
+                i++;
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.RPAREN, ")"));
+                i++;
+            } else if (c == ',') {
+                tokens.add(new Token(TokenType.COMMA, ","));
+                i++;
+            } else if (c == '=') {
+                tokens.add(new Token(TokenType.OPERATOR, "="));
+                i++;
+            } else if (c == '!' || c == '>' || c == '<') {
+                boolean withEquals = i + 1 < length && filter.charAt(i + 1) == '=';
+                if (c == '!' && !withEquals) {
+                    throw new IllegalArgumentException("Invalid filter [" + filter + "]: unexpected '!'");
+                }
+                tokens.add(new Token(TokenType.OPERATOR, withEquals ? c + "=" : String.valueOf(c)));
+                i += withEquals ? 2 : 1;
+            } else if (c == '\'') {
+                StringBuilder sb = new StringBuilder();
+                i++;
+                while (true) {
+                    if (i >= length) {
+                        throw new IllegalArgumentException("Invalid filter [" + filter + "]: unterminated string");
+                    }
+                    char ch = filter.charAt(i++);
+                    if (ch == '\'') {
+                        if (i < length && filter.charAt(i) == '\'') {
+                            sb.append('\'');
+                            i++;
+                            continue;
+                        }
+                        break;
+                    }
+                    sb.append(ch);
+                }
+                tokens.add(new Token(TokenType.STRING, sb.toString()));
+            } else {
+                int start = i;
+                while (i < length && !isDelimiter(filter.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.WORD, filter.substring(start, i)));
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return Character.isWhitespace(c) || "(),=!<>'".indexOf(c) >= 0;
+    }
+
+    private enum TokenType {
+        WORD, STRING, OPERATOR, LPAREN, RPAREN, COMMA, EOF
+    }
+
+    private record Token(TokenType type, String text) {
+        static final Token EOF = new Token(TokenType.EOF, "<end>");
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.assetManagementSystemServer.base.query.filter;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 过滤字符串的编译结果
+ * 一次解析后缓存于 {@link FilterPlanCache}，后续同一实体的相同过滤条件直接复用
+ *
+ * @param root   表达式语法树根节点
+ * @param shape  归一化的条件形态（仅保留字段与操作符，字面量替换为 ?，同级条件按字典序排列）
+ * @param fields 条件涉及的字段路径（如 name、group.id）
+ */
+public record FilterPlan(FilterNode root, String shape, Set<String> fields) {
+
+    /**
+     * 解析过滤字符串
+     * @param root   查询根对象（用于确定字段类型）
+     * @param filter 前端传入的过滤条件字符串
+     * @return 编译后的过滤计划
+     */
+    public static FilterPlan compile(Root<?> root, String filter) {
+        FilterNode node = FilterParser.parse(root, filter);
+        Set<String> fields = new TreeSet<>();
+        String shape = shape(node, fields);
+        return new FilterPlan(node, shape, Set.copyOf(fields));
+    }
+
+    /**
+     * 生成条件断言
+     */
+    public Predicate toPredicate(Root<?> root, CriteriaBuilder cb) {
+        return this.root.toPredicate(root, cb);
+    }
+
+    /**
+     * 生成条件形态并收集字段
+     */
+    private static String shape(FilterNode node, Set<String> fields) {
+        if (node instanceof FilterNode.And and) {
+            return "and(" + shapes(and.children(), fields) + ")";
+        }
+        if (node instanceof FilterNode.Or or) {
+            return "or(" + shapes(or.children(), fields) + ")";
+        }
+        if (node instanceof FilterNode.Not not) {
+            return "not(" + shape(not.child(), fields) + ")";
+        }
+        if (node instanceof FilterNode.In in) {
+            return field(in.path(), fields) + (in.negated() ? " not in (?)" : " in (?)");
+        }
+        if (node instanceof FilterNode.Between between) {
+            return field(between.path(), fields) + " between ? and ?";
+        }
+        if (node instanceof FilterNode.IsNull isNull) {
+            return field(isNull.path(), fields) + (isNull.negated() ? " is not null" : " is null");
+        }
+        FilterCondition condition = (FilterCondition) node;
+        return field(condition.path(), fields) + " " + condition.operator() + " ?";
+    }
+
+    private static String shapes(List<FilterNode> children, Set<String> fields) {
+        return String.join(", ", children.stream()
+                .map(child -> shape(child, fields))
+                .sorted()
+                .toList());
+    }
+
+    private static String field(String[] path, Set<String> fields) {
+        String field = String.join(".", path);
+        fields.add(field);
+        return field;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.assetManagementSystemServer.base.query.filter;
+
+import jakarta.persistence.criteria.Root;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 过滤计划缓存
+ * 以（实体类型, 过滤字符串）为键的有界 LRU 缓存，避免重复解析与正则匹配
+ */
+public final class FilterPlanCache {
+
+    /**
+     * 最大缓存条目数
+     */
+    public static final int MAX_SIZE = 512;
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+    private static final LongAdder COMPILE_NANOS = new LongAdder();
+
+    private static final Map<Key, FilterPlan> PLANS = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, FilterPlan> eldest) {
+            if (size() > MAX_SIZE) {
+                EVICTIONS.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private FilterPlanCache() {
+    }
+
+    /**
+     * 获取过滤计划（未命中时编译并放入缓存）
+     * @param root   查询根对象
+     * @param filter 过滤条件字符串
+     */
+    public static FilterPlan get(Root<?> root, String filter) {
+        Key key = new Key(root.getJavaType(), filter);
+        FilterPlan plan;
+        synchronized (PLANS) {
+            plan = PLANS.get(key);
+        }
+        if (plan != null) {
+            HITS.increment();
+            return plan;
+        }
+
+        MISSES.increment();
+        // 编译放在锁外，并发未命中时最多重复编译一次
+        long start = System.nanoTime();
+        plan = FilterPlan.compile(root, filter);
+        COMPILE_NANOS.add(System.nanoTime() - start);
+        synchronized (PLANS) {
+            PLANS.put(key, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * 查看已缓存的过滤计划，不计入命中统计，也不会触发编译
+     * @param entityType 实体类型
+     * @param filter     过滤条件字符串
+     * @return 过滤计划，未缓存时返回 null
+     */
+    public static FilterPlan peek(Class<?> entityType, String filter) {
+        synchronized (PLANS) {
+            return PLANS.get(new Key(entityType, filter));
+        }
+    }
+
+    public static long hitCount() {
+        return HITS.sum();
+    }
+
+    public static long missCount() {
+        return MISSES.sum();
+    }
+
+    public static long evictionCount() {
+        return EVICTIONS.sum();
+    }
+
+    /**
+     * 未命中时编译过滤计划的累计耗时（纳秒）
+     */
+    public static long compileNanos() {
+        return COMPILE_NANOS.sum();
+    }
+
+    public static int size() {
+        synchronized (PLANS) {
+            return PLANS.size();
+        }
+    }
+
+    /**
+     * 清空缓存（计数器保留）
+     */
+    public static void clear() {
+        synchronized (PLANS) {
+            PLANS.clear();
+        }
+    }
+
+    private record Key(Class<?> entityType, String filter) {
+    }
+}
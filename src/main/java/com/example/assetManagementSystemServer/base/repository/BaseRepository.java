@@ -1,21 +1,29 @@
 // BaseRepository.java
 package com.example.assetManagementSystemServer.base.repository;
 
+import com.example.assetManagementSystemServer.base.query.filter.FilterPlanCache;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.NoRepositoryBean;
 import jakarta.persistence.criteria.*;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @NoRepositoryBean
 public interface BaseRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
 
+    /**
+     * 判断是否存在满足条件的记录
+     * 生成 SELECT 1 ... LIMIT 1，命中第一行即返回；存在性检查应使用本方法而不是 count(spec) > 0
+     * （COUNT 需扫描全部匹配行）或加载列表后判断是否为空
+     * @param spec 查询条件
+     * @return 是否存在
+     */
+    @Override
+    boolean exists(Specification<T> spec);
+
     /**
      * 将过滤字符串转换为JPA Specification
+     * 解析结果按（实体类型, 过滤字符串）缓存，重复的过滤条件不再重新解析
      * @param filter 前端传入的过滤条件字符串
      * @return 组合后的查询条件
      */
@@ -24,109 +32,7 @@ public interface BaseRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecific
             if (filter == null || filter.trim().isEmpty()) {
                 return cb.conjunction();
             }
-
-            List<Predicate> predicates = new ArrayList<>();
-
-            // 分割AND条件
-            String[] andConditions = filter.split("\\s+and\\s+");
-            for (String condition : andConditions) {
-                // 使用正则解析条件表达式
-                Matcher matcher = Pattern.compile("(\\w+)\\s+(=|!=|>|<|>=|<=|like|ilike)\\s+('[^']*'|%?\\S+%?)")
-                        .matcher(condition);
-                if (matcher.find()) {
-                    String field = matcher.group(1);
-                    String operator = matcher.group(2).toLowerCase();
-                    String value = matcher.group(3).replaceAll("^%|'|%$", "");
-
-                    // 构建查询条件
-                    Path<Object> fieldPath = getFieldPath(root, field);
-                    predicates.add(buildPredicate(cb, fieldPath, operator, value));
-                }
-            }
-
-            return predicates.isEmpty() ? cb.conjunction() : cb.and(predicates.toArray(new Predicate[0]));
+            return FilterPlanCache.get(root, filter).toPredicate(root, cb);
         };
     }
-
-    /**
-     * 根据操作符构建条件断言
-     * @param cb CriteriaBuilder
-     * @param fieldPath 字段路径
-     * @param operator 操作符
-     * @param value 值
-     * @return 条件断言
-     */
-    @SuppressWarnings("unchecked")
-    private Predicate buildPredicate(CriteriaBuilder cb, Path<?> fieldPath, String operator, String value) {
-        // 处理不同类型字段的转换
-        if (fieldPath.getJavaType() == Integer.class) {
-            int numValue = Integer.parseInt(value);
-            return buildNumericPredicate(cb, (Path<Integer>) fieldPath, operator, numValue);
-        }
-        if (fieldPath.getJavaType() == Long.class) {
-            long numValue = Long.parseLong(value);
-            return buildNumericPredicate(cb, (Path<Long>) fieldPath, operator, numValue);
-        }
-        if (fieldPath.getJavaType() == Boolean.class) {
-            Boolean boolValue = Boolean.parseBoolean(value);
-            return buildBooleanPredicate(cb, (Path<Boolean>) fieldPath, operator, boolValue);
-        }
-        // 默认按字符串处理
-        return buildStringPredicate(cb, (Path<String>) fieldPath, operator, value);
-    }
-
-    /**
-     * 构建数值类型条件
-     */
-    private <N extends Number & Comparable<? super N>> Predicate buildNumericPredicate(
-            CriteriaBuilder cb, Path<N> fieldPath, String operator, N value) {
-        return switch (operator) {
-            case "=" -> cb.equal(fieldPath, value);
-            case "!=" -> cb.notEqual(fieldPath, value);
-            case ">" -> cb.greaterThan(fieldPath, value);
-            case ">=" -> cb.greaterThanOrEqualTo(fieldPath, value);
-            case "<" -> cb.lessThan(fieldPath, value);
-            case "<=" -> cb.lessThanOrEqualTo(fieldPath, value);
-            default -> throw new IllegalArgumentException("Unsupported operator: " + operator);
-        };
-    }
-
-    /**
-     * 构建字符串类型条件
-     */
-    private Predicate buildStringPredicate(CriteriaBuilder cb, Path<String> fieldPath,
-                                           String operator, String value) {
-        return switch (operator) {
-            case "=" -> cb.equal(fieldPath, value);
-            case "!=" -> cb.notEqual(fieldPath, value);
-            case "like" -> cb.like(fieldPath, "%" + value + "%");
-            case "ilike" -> cb.like(cb.lower(fieldPath), "%" + value.toLowerCase() + "%");
-            default -> throw new IllegalArgumentException("Unsupported operator: " + operator);
-        };
-    }
-    /**
-     * 构建布尔类型条件构建方法
-     */
-    private Predicate buildBooleanPredicate(CriteriaBuilder cb, Path<Boolean> fieldPath,
-                                            String operator, Boolean value) {
-        return switch (operator) {
-            case "=" -> cb.equal(fieldPath, value);
-            case "!=" -> cb.notEqual(fieldPath, value);
-            default -> throw new IllegalArgumentException("Unsupported boolean operator: " + operator);
-        };
-    }
-    /**
-     * 将带下划线的字段名转换为实体属性路径
-     * @param root 查询根对象
-     * @param field 前端字段名（可能带下划线）
-     * @return 对应的路径对象
-     */
-    private Path<Object> getFieldPath(Root<?> root, String field) {
-        String[] parts = field.split("_");
-        Path<Object> path = root.get(parts[0]);
-        for (int i = 1; i < parts.length; i++) {
-            path = path.get(parts[i]);
-        }
-        return path;
-    }
-}
\ No newline at end of file
+}
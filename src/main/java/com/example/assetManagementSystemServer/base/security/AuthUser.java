@@ -0,0 +1,30 @@
+package com.example.assetManagementSystemServer.base.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 认证主体：在 Spring Security 用户信息基础上携带用户ID
+ * 由 JWT 声明或登录时加载的用户构建，业务代码可直接从 SecurityContext 取得当前用户ID与用户名
+ */
+@Getter
+public class AuthUser extends User {
+
+    private final Long id;
+
+    public AuthUser(Long id, String username, String password, Collection<? extends GrantedAuthority> authorities) {
+        this(id, username, password, true, authorities);
+    }
+
+    /**
+     * @param enabled 账号是否启用（对应用户 status），禁用的账号无法登录
+     */
+    public AuthUser(Long id, String username, String password, boolean enabled,
+                    Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, enabled, true, true, true, authorities);
+        this.id = id;
+    }
+}
@@ -1,21 +1,74 @@
 package com.example.assetManagementSystemServer.base.service;
 
+import com.example.assetManagementSystemServer.base.export.ExportFormat;
+import com.example.assetManagementSystemServer.base.export.ExportWriter;
+import com.example.assetManagementSystemServer.base.query.CountStrategy;
 import com.example.assetManagementSystemServer.base.query.Items;
+import com.example.assetManagementSystemServer.base.query.KeysetCursor;
 import com.example.assetManagementSystemServer.base.repository.BaseRepository;
 import com.example.assetManagementSystemServer.base.query.ListParam;
 import com.example.assetManagementSystemServer.entity.asset.AssetFile;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.Nullable;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.Version;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
 import jakarta.transaction.Transactional;
-import org.springframework.beans.BeanUtils;
-import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeanWrapperImpl;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.beans.PropertyDescriptor;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
 
 /**
@@ -25,6 +78,48 @@ import java.beans.PropertyDescriptor;
  */
 public abstract class BaseService<T, ID> {
 
+    /**
+     * 导出时每写出多少行刷新一次输出缓冲
+     */
+    private static final int EXPORT_FLUSH_ROWS = 500;
+
+    /**
+     * MySQL Connector/J 的逐行流式读取标记：只进、只读语句上 fetch size 为 Integer.MIN_VALUE 时不再预先读入整个结果集
+     */
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    /**
+     * 批量更新时每批处理的主键数
+     */
+    private static final int PATCH_BATCH_SIZE = 500;
+
+    /**
+     * 总数缓存（按过滤条件，写入时失效）
+     */
+    private final CountCache countCache = new CountCache();
+
+    @Autowired
+    private TableRowEstimator tableRowEstimator;
+
+    @Autowired
+    private FilterShapeStats filterShapeStats;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Class<T> entityClass;
+
+    /**
+     * 实体是否声明了更新回调（延迟解析）
+     */
+    private Boolean entityCallbacks;
+
     /**
      * 执行分页查询（核心方法）
      * @param param 分页查询参数
@@ -34,17 +129,9 @@ public abstract class BaseService<T, ID> {
         // 参数校验
         validateParam(param);
 
-        // 构建分页参数
-        Pageable pageable = buildPageRequest(param);
-
-        // 执行分页查询
-        Page<T> pageResult = getRepository().findAll(
-                getRepository().parseFilter(param.getFilter()),
-                pageable
-        );
-
-        // 构建返回结果
-        return buildResult(pageResult, param.isCount());
+        Specification<T> spec = getRepository().parseFilter(param.getFilter());
+        return filterShapeStats.record(getEntityClass(), param.getFilter(),
+                () -> query(spec, spec, param, countCacheKey(param)));
     }
     /**
      * 分页查询（增强版）- 支持附加动态条件
@@ -55,25 +142,334 @@ public abstract class BaseService<T, ID> {
         // 参数校验
         validateParam(param);
 
-        // 构建分页请求
-        Pageable pageable = buildPageRequest(param);
-
         // 组合查询条件
         Specification<T> baseSpec = getRepository().parseFilter(param.getFilter());
         Specification<T> finalSpec = extraSpec != null ?
                 baseSpec.and(extraSpec) : baseSpec;
 
-        // 执行查询
-        Page<T> pageResult = getRepository().findAll((root, query, cb) -> {
+        Specification<T> fetchSpec = (root, query, cb) -> {
             // 动态加载关联实体（适用于所有实体）
             if (query != null && query.getResultType() == AssetFile.class) {
                 root.fetch("asset", JoinType.INNER);
             }
             return finalSpec.toPredicate(root, query, cb);
-        }, pageable);
+        };
+
+        // 附加条件无法作为缓存键，此时缓存/估算统计退化为精确统计
+        return filterShapeStats.record(getEntityClass(), param.getFilter(),
+                () -> query(fetchSpec, finalSpec, param, extraSpec == null ? countCacheKey(param) : null));
+    }
+
+    /**
+     * 分页查询（按需返回字段）
+     * @param param 分页参数，指定 fields 时仅返回所选字段，否则返回完整实体
+     */
+    public Items<?> select(ListParam param) {
+        return param.getFields() == null ? list(param) : listFields(param);
+    }
+
+    /**
+     * 字段投影分页查询
+     * 只 SELECT 指定列并以 Map 返回，跳过实体装配、脏检查快照以及未选列的类型转换（如 JSON 列解析）
+     * @param param 分页参数（fields 必填，暂不支持游标分页）
+     */
+    public Items<Map<String, Object>> listFields(ListParam param) {
+        validateParam(param);
+        if (param.isKeysetMode()) {
+            throw new IllegalArgumentException("指定fields时暂不支持游标分页");
+        }
+        List<String> fields = validateFields(param.getFields());
+        return filterShapeStats.record(getEntityClass(), param.getFilter(), () -> queryFields(param, fields));
+    }
 
-        // 返回标准化结果
-        return buildResult(pageResult, param.isCount());
+    private Items<Map<String, Object>> queryFields(ListParam param, List<String> fields) {
+        Specification<T> spec = getRepository().parseFilter(param.getFilter());
+        CriteriaQuery<Tuple> query = buildTupleQuery(spec, param.getSort(), fields);
+
+        // 多取一行判断是否还有下一页
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) buildPageRequest(param).getOffset())
+                .setMaxResults(param.getLimit() + 1)
+                .getResultList();
+        boolean hasMore = rows.size() > param.getLimit();
+        List<Map<String, Object>> items = rows.stream()
+                .limit(param.getLimit())
+                .map(row -> {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    fields.forEach(field -> item.put(field, row.get(field)));
+                    return item;
+                })
+                .toList();
+
+        Long total = count(resolveCountStrategy(param), spec, countCacheKey(param));
+        return new Items<>(items, total, null, hasMore);
+    }
+
+    /**
+     * 流式导出
+     * 复用列表的过滤与排序条件，按字段投影后以只进、只读语句逐行读取（MySQL 流式结果集，无需 useCursorFetch）、
+     * 逐行写出，内存占用与导出行数无关。流式读取期间该连接不能执行其他查询。参数在返回前校验
+     * @param param  过滤、排序与字段（未指定 fields 时导出全部可见的基本属性），忽略分页参数
+     * @param format 导出格式
+     * @return 写出导出内容的响应体
+     */
+    public StreamingResponseBody export(ListParam param, ExportFormat format) {
+        validateSort(param.getSort());
+        List<String> fields = param.getFields() != null ? validateFields(param.getFields()) : getExportFields();
+        CriteriaQuery<Tuple> query = buildTupleQuery(
+                getRepository().parseFilter(param.getFilter()), param.getSort(), fields);
+
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            ExportWriter exportWriter = new ExportWriter(format, fields, writer, objectMapper);
+            exportWriter.writeHeader();
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<Tuple> rows = entityManager.createQuery(query)
+                        .setHint(HibernateHints.HINT_FETCH_SIZE, STREAMING_FETCH_SIZE)
+                        .getResultStream()) {
+                    long written = 0;
+                    for (Iterator<Tuple> it = rows.iterator(); it.hasNext(); ) {
+                        exportWriter.writeRow(it.next().toArray());
+                        // 定期刷出，避免缓冲区随行数增长
+                        if (++written % EXPORT_FLUSH_ROWS == 0) {
+                            writer.flush();
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+    }
+
+    /**
+     * 构建字段投影查询
+     */
+    private CriteriaQuery<Tuple> buildTupleQuery(Specification<T> spec, Sort sort, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(getEntityClass());
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.multiselect(fields.stream()
+                .<Selection<?>>map(field -> root.get(field).alias(field))
+                .toList());
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return query;
+    }
+
+    /**
+     * 默认导出字段：按声明顺序的全部可见基本属性
+     */
+    private List<String> getExportFields() {
+        EntityType<T> entityType = entityManager.getMetamodel().entity(getEntityClass());
+        List<String> fields = new ArrayList<>();
+        for (Field field : getEntityClass().getDeclaredFields()) {
+            Attribute<? super T, ?> attribute = entityType.getAttributes().stream()
+                    .filter(candidate -> candidate.getName().equals(field.getName()))
+                    .findFirst()
+                    .orElse(null);
+            if (attribute != null
+                    && attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC
+                    && !isHiddenField(attribute)) {
+                fields.add(field.getName());
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * 投影字段检查：仅允许实体的基本类型属性，且排除序列化时隐藏的属性
+     */
+    private List<String> validateFields(List<String> fields) {
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("fields不能为空");
+        }
+        EntityType<T> entityType = entityManager.getMetamodel().entity(getEntityClass());
+        for (String field : fields) {
+            Attribute<? super T, ?> attribute;
+            try {
+                attribute = entityType.getAttribute(field);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("未知字段: " + field);
+            }
+            if (attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC
+                    || isHiddenField(attribute)) {
+                throw new IllegalArgumentException("不支持查询的字段: " + field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * 是否为序列化时隐藏的属性（@JsonIgnore 或只写属性，如密码）
+     */
+    private boolean isHiddenField(Attribute<?, ?> attribute) {
+        if (!(attribute.getJavaMember() instanceof Field field)) {
+            return false;
+        }
+        JsonProperty property = field.getAnnotation(JsonProperty.class);
+        return field.isAnnotationPresent(JsonIgnore.class)
+                || (property != null && property.access() == JsonProperty.Access.WRITE_ONLY);
+    }
+
+    /**
+     * 按分页模式与统计策略执行查询
+     * @param spec      查询条件
+     * @param countSpec 统计总数使用的查询条件（不含关联抓取）
+     * @param param     分页参数
+     * @param countKey  总数缓存键（null 表示不可缓存）
+     */
+    private Items<T> query(Specification<T> spec, Specification<T> countSpec,
+                           ListParam param, @Nullable String countKey) {
+        CountStrategy strategy = resolveCountStrategy(param);
+
+        // 偏移分页 + 精确统计：沿用 Page 查询（最后一页时可省去 COUNT）
+        if (!param.isKeysetMode() && strategy == CountStrategy.EXACT) {
+            Page<T> pageResult = getRepository().findAll(spec, buildPageRequest(param));
+            return buildResult(pageResult, true);
+        }
+
+        // 其余情况多取一行判断是否还有下一页，总数按策略单独统计
+        ScrollPosition position = param.isKeysetMode()
+                ? decodeCursor(param)
+                : offsetPosition(buildPageRequest(param));
+        Window<T> window = getRepository().findBy(spec, query -> query
+                .sortBy(param.getSort())
+                .limit(param.getLimit())
+                .scroll(position));
+
+        // 游标分页：按排序键+主键定位上一页末尾，避免偏移分页扫描并丢弃前面所有行
+        String next = param.isKeysetMode() && window.hasNext() && !window.isEmpty()
+                ? KeysetCursor.encode(window.positionAt(window.size() - 1))
+                : null;
+        Long total = count(strategy, countSpec, countKey);
+        return new Items<>(window.getContent(), total, next, window.hasNext());
+    }
+
+    /**
+     * 解析游标并校验其与本次排序字段一致（取值类型按元模型中的属性类型还原）
+     */
+    private KeysetScrollPosition decodeCursor(ListParam param) {
+        KeysetScrollPosition position = KeysetCursor.decode(param.getCursor(), this::attributeType);
+        if (!position.isInitial()) {
+            for (Sort.Order order : param.getSort()) {
+                if (!position.getKeys().containsKey(order.getProperty())) {
+                    throw new IllegalArgumentException("游标与排序条件不匹配，请从第一页重新查询");
+                }
+            }
+        }
+        return position;
+    }
+
+    /**
+     * 按属性路径（如 group.id）从元模型解析属性的 Java 类型，不存在时返回 null
+     */
+    private Class<?> attributeType(String property) {
+        ManagedType<?> type = entityManager.getMetamodel().entity(getEntityClass());
+        Class<?> javaType = null;
+        for (String name : property.split("\\.")) {
+            if (type == null) {
+                return null;
+            }
+            Attribute<?, ?> attribute;
+            try {
+                attribute = type.getAttribute(name);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            javaType = attribute.getJavaType();
+            type = attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC
+                    ? null
+                    : entityManager.getMetamodel().managedType(javaType);
+        }
+        return javaType;
+    }
+
+    /**
+     * 按策略统计总数
+     */
+    private Long count(CountStrategy strategy, Specification<T> countSpec, @Nullable String countKey) {
+        return switch (strategy) {
+            case NONE -> null;
+            case EXACT -> getRepository().count(countSpec);
+            case CACHED -> countKey != null
+                    ? countCache.get(countKey, () -> getRepository().count(countSpec))
+                    : getRepository().count(countSpec);
+            case ESTIMATED -> {
+                // 仅无过滤条件时可用表统计信息估算
+                if ("".equals(countKey)) {
+                    Long estimate = tableRowEstimator.estimate(getEntityClass());
+                    if (estimate != null) {
+                        yield estimate;
+                    }
+                }
+                yield count(CountStrategy.CACHED, countSpec, countKey);
+            }
+        };
+    }
+
+    /**
+     * 解析本次查询的统计策略
+     */
+    private CountStrategy resolveCountStrategy(ListParam param) {
+        if (!param.isCount()) {
+            return CountStrategy.NONE;
+        }
+        return param.getCountStrategy() != null ? param.getCountStrategy() : getDefaultCountStrategy();
+    }
+
+    /**
+     * 实体默认的统计策略（子类可按表规模覆盖）
+     */
+    protected CountStrategy getDefaultCountStrategy() {
+        return CountStrategy.EXACT;
+    }
+
+    /**
+     * 使总数缓存失效（绕过 save/update 直接写库的子类可手动调用）
+     */
+    protected void invalidateCountCache() {
+        countCache.invalidate();
+        // 事务提交后再失效一次，避免提交前的并发统计回填旧值
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    countCache.invalidate();
+                }
+            });
+        }
+    }
+
+    private String countCacheKey(ListParam param) {
+        return param.getFilter() == null ? "" : param.getFilter().trim();
+    }
+
+    /**
+     * 将页请求转换为偏移滚动位置（偏移量为已读取的最后一行，初始位置为 -1）
+     */
+    private ScrollPosition offsetPosition(Pageable pageable) {
+        return pageable.getOffset() == 0
+                ? ScrollPosition.offset()
+                : ScrollPosition.offset(pageable.getOffset() - 1);
+    }
+
+    /**
+     * 解析实体类型
+     */
+    @SuppressWarnings("unchecked")
+    protected Class<T> getEntityClass() {
+        if (entityClass == null) {
+            Class<?>[] typeArguments = GenericTypeResolver.resolveTypeArguments(getClass(), BaseService.class);
+            entityClass = (Class<T>) Objects.requireNonNull(typeArguments)[0];
+        }
+        return entityClass;
     }
 
     /**
@@ -84,13 +480,37 @@ public abstract class BaseService<T, ID> {
     /**
      * 参数有效性检查
      */
-    private void validateParam(ListParam param) {
+    protected void validateParam(ListParam param) {
         if (param.getLimit() <= 0) {
             throw new IllegalArgumentException("limit必须大于0");
         }
         if (param.getOffset() < 0) {
             throw new IllegalArgumentException("offset不能为负数");
         }
+        if (param.isKeysetMode() && param.getOffset() > 0) {
+            throw new IllegalArgumentException("游标分页不能同时指定offset");
+        }
+        validateSort(param.getSort());
+    }
+
+    /**
+     * 排序字段白名单检查
+     * 仅允许子类声明的可排序（有索引）字段，避免热点查询走文件排序
+     */
+    private void validateSort(Sort sort) {
+        Set<String> sortableFields = getSortableFields();
+        for (Sort.Order order : sort) {
+            if (!sortableFields.contains(order.getProperty())) {
+                throw new IllegalArgumentException("不支持按该字段排序（未建索引或未开放）: " + order.getProperty());
+            }
+        }
+    }
+
+    /**
+     * 可排序字段白名单（实体属性名，须有对应索引），默认不允许排序
+     */
+    protected Set<String> getSortableFields() {
+        return Set.of();
     }
 
     /**
@@ -99,7 +519,8 @@ public abstract class BaseService<T, ID> {
     protected Pageable buildPageRequest(ListParam param) {
         // 计算页码（示例：offset=15, limit=10 → page=1）
         int pageNumber = (param.getOffset() + param.getLimit() - 1) / param.getLimit();
-        return PageRequest.of(pageNumber, param.getLimit());
+        validateSort(param.getSort());
+        return PageRequest.of(pageNumber, param.getLimit(), param.getSort());
     }
 
     /**
@@ -117,28 +538,158 @@ public abstract class BaseService<T, ID> {
         T existing = getRepository().findById(id)
                 .orElseThrow(() -> new RuntimeException("ID不存在: " + id));
 
-        // 复制非空属性
-        BeanWrapper src = new BeanWrapperImpl(updatedEntity);
-        BeanWrapper trg = new BeanWrapperImpl(existing);
+        // 复制非空属性（跳过ID和不可写字段）
+        PropertyCopier.forClass(getEntityClass()).copyNonNull(updatedEntity, existing);
+
+        invalidateCountCache();
+        return getRepository().save(existing);
+    }
+
+    /**
+     * 批量部分更新：对所有 id 应用同一组字段修改
+     * 实体无更新回调时合并为一条 UPDATE ... WHERE id IN (...)；否则分批加载实体逐条修改，保证回调生效
+     * @param ids     主键列表
+     * @param changes 字段名 -> 新值（仅限可更新的基本属性，不可为空值）
+     * @return 更新的行数
+     */
+    @Transactional
+    public int patch(Collection<ID> ids, Map<String, Object> changes) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("ids不能为空");
+        }
+        if (changes == null || changes.isEmpty()) {
+            throw new IllegalArgumentException("更新内容不能为空");
+        }
+        Map<String, Object> values = convertPatch(changes);
+        List<ID> idList = List.copyOf(new LinkedHashSet<>(ids));
 
-        // 遍历所有属性
-        for (PropertyDescriptor pd : src.getPropertyDescriptors()) {
-            String field = pd.getName();
-            // 跳过ID和不可写字段
-            if ("id".equals(field) || !trg.isWritableProperty(field)) continue;
+        invalidateCountCache();
+        if (requiresEntityCallbacks()) {
+            return patchEntities(idList, values);
+        }
+        beforeBulkUpdate(values);
 
-            // 仅复制非空值
-            Object value = src.getPropertyValue(field);
-            if (value != null) {
-                trg.setPropertyValue(field, value);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        String idName = getIdAttributeName();
+        int updated = 0;
+        for (int from = 0; from < idList.size(); from += PATCH_BATCH_SIZE) {
+            List<ID> batch = idList.subList(from, Math.min(from + PATCH_BATCH_SIZE, idList.size()));
+            CriteriaUpdate<T> update = cb.createCriteriaUpdate(getEntityClass());
+            Root<T> root = update.from(getEntityClass());
+            values.forEach(update::set);
+            update.where(root.get(idName).in(batch));
+            updated += entityManager.createQuery(update).executeUpdate();
+        }
+        return updated;
+    }
+
+    /**
+     * 逐条更新（分批加载、修改、刷新并清理持久化上下文）
+     */
+    private int patchEntities(List<ID> ids, Map<String, Object> values) {
+        PropertyCopier copier = PropertyCopier.forClass(getEntityClass());
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += PATCH_BATCH_SIZE) {
+            List<T> entities = getRepository().findAllById(ids.subList(from, Math.min(from + PATCH_BATCH_SIZE, ids.size())));
+            for (T entity : entities) {
+                values.forEach((field, value) -> copier.setProperty(entity, field, value));
             }
+            getRepository().saveAll(entities);
+            entityManager.flush();
+            entityManager.clear();
+            updated += entities.size();
         }
+        return updated;
+    }
 
-        return getRepository().save(existing);
+    /**
+     * 校验批量更新字段并将取值转换为属性类型
+     */
+    private Map<String, Object> convertPatch(Map<String, Object> changes) {
+        EntityType<T> entityType = entityManager.getMetamodel().entity(getEntityClass());
+        Map<String, Object> values = new LinkedHashMap<>();
+        changes.forEach((field, value) -> {
+            Attribute<? super T, ?> attribute;
+            try {
+                attribute = entityType.getAttribute(field);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("未知字段: " + field);
+            }
+            if (attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC
+                    || isHiddenField(attribute)
+                    || !isUpdatable(attribute)) {
+                throw new IllegalArgumentException("不支持批量更新的字段: " + field);
+            }
+            if (value == null) {
+                throw new IllegalArgumentException("批量更新不支持置空字段: " + field);
+            }
+            try {
+                values.put(field, objectMapper.convertValue(value, attribute.getJavaType()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("字段取值无效: " + field);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * 是否可更新：排除主键、乐观锁版本号与 updatable = false 的列
+     */
+    private boolean isUpdatable(Attribute<?, ?> attribute) {
+        if (attribute instanceof SingularAttribute<?, ?> singular && (singular.isId() || singular.isVersion())) {
+            return false;
+        }
+        if (attribute.getJavaMember() instanceof Field field) {
+            Column column = field.getAnnotation(Column.class);
+            return column == null || column.updatable();
+        }
+        return true;
+    }
+
+    private String getIdAttributeName() {
+        EntityType<T> entityType = entityManager.getMetamodel().entity(getEntityClass());
+        return entityType.getId(entityType.getIdType().getJavaType()).getName();
+    }
+
+    /**
+     * 批量更新是否需要逐条执行实体回调
+     * 默认在实体声明了 @PreUpdate/@PostUpdate、@EntityListeners、@UpdateTimestamp 或 @Version 时返回 true；
+     * 子类若在 {@link #beforeBulkUpdate} 中补齐了回调效果，可覆盖为 false 以使用单条 UPDATE
+     */
+    protected boolean requiresEntityCallbacks() {
+        if (entityCallbacks == null) {
+            entityCallbacks = detectEntityCallbacks(getEntityClass());
+        }
+        return entityCallbacks;
+    }
+
+    /**
+     * 单条 UPDATE 执行前调整更新内容（如补充修改时间）
+     * @param values 字段名 -> 已转换的新值
+     */
+    protected void beforeBulkUpdate(Map<String, Object> values) {
+    }
+
+    private static boolean detectEntityCallbacks(Class<?> type) {
+        if (type.isAnnotationPresent(EntityListeners.class)) {
+            return true;
+        }
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(PreUpdate.class) || method.isAnnotationPresent(PostUpdate.class)) {
+                return true;
+            }
+        }
+        for (Field field : type.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Version.class) || field.isAnnotationPresent(UpdateTimestamp.class)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Transactional
     public T save(T entity) {
+        invalidateCountCache();
         return getRepository().save(entity);
     }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.example.assetManagementSystemServer.base.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 单个实体的分页总数缓存
+ * 以过滤条件为键缓存 COUNT 结果，写入时整体失效；另设 TTL 兜底绕过 BaseService 的写入
+ */
+public class CountCache {
+
+    /**
+     * 最大缓存条目数（超出时整体清空）
+     */
+    private static final int MAX_SIZE = 256;
+
+    /**
+     * 缓存有效期（毫秒）
+     */
+    private static final long TTL_MILLIS = 30_000L;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 失效代次：计数期间发生写入时不回填，避免缓存旧值
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 获取缓存的总数，未命中或过期时重新统计
+     * @param key     缓存键（过滤条件）
+     * @param counter 精确统计函数
+     */
+    public long get(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.count;
+        }
+
+        long startGeneration = generation.get();
+        long count = counter.getAsLong();
+        if (generation.get() == startGeneration) {
+            if (entries.size() >= MAX_SIZE) {
+                entries.clear();
+            }
+            entries.put(key, new Entry(count, now + TTL_MILLIS));
+        }
+        return count;
+    }
+
+    /**
+     * 使全部缓存失效
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
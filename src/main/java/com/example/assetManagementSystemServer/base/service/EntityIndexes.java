@@ -0,0 +1,93 @@
+package com.example.assetManagementSystemServer.base.service;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 实体索引元数据
+ * 根据实体注解推断哪些属性可走索引：主键、唯一列、外键（关联的连接列），
+ * 以及 @Table 中 indexes / uniqueConstraints 的首列（最左前缀）
+ */
+public final class EntityIndexes {
+
+    private static final Map<Class<?>, Set<String>> INDEXED_FIELDS = new ConcurrentHashMap<>();
+
+    private EntityIndexes() {
+    }
+
+    /**
+     * 属性路径的首段是否有可用索引
+     * @param entityClass 实体类型
+     * @param fieldPath   属性路径（如 name、group.id）
+     */
+    public static boolean isIndexed(Class<?> entityClass, String fieldPath) {
+        int dot = fieldPath.indexOf('.');
+        String field = dot < 0 ? fieldPath : fieldPath.substring(0, dot);
+        return INDEXED_FIELDS.computeIfAbsent(entityClass, EntityIndexes::resolve).contains(field);
+    }
+
+    private static Set<String> resolve(Class<?> entityClass) {
+        Set<String> indexed = new HashSet<>();
+        Map<String, String> fieldByColumn = new HashMap<>();
+        for (Field field : entityClass.getDeclaredFields()) {
+            fieldByColumn.put(columnName(field), field.getName());
+            Column column = field.getAnnotation(Column.class);
+            if (field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(EmbeddedId.class)
+                    || field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(OneToOne.class)
+                    || (column != null && column.unique())) {
+                indexed.add(field.getName());
+            }
+        }
+
+        Table table = entityClass.getAnnotation(Table.class);
+        if (table != null) {
+            for (Index index : table.indexes()) {
+                addLeadingColumn(index.columnList(), fieldByColumn, indexed);
+            }
+            for (UniqueConstraint constraint : table.uniqueConstraints()) {
+                if (constraint.columnNames().length > 0) {
+                    addLeadingColumn(constraint.columnNames()[0], fieldByColumn, indexed);
+                }
+            }
+        }
+        return Set.copyOf(indexed);
+    }
+
+    private static void addLeadingColumn(String columnList, Map<String, String> fieldByColumn, Set<String> indexed) {
+        // columnList 形如 "purchase_date DESC, id"
+        String leading = columnList.split(",")[0].trim().split("\\s+")[0];
+        String field = fieldByColumn.get(leading.toLowerCase());
+        if (field != null) {
+            indexed.add(field);
+        }
+    }
+
+    /**
+     * 属性对应的列名（未显式声明时按默认命名策略转为下划线形式）
+     */
+    private static String columnName(Field field) {
+        Column column = field.getAnnotation(Column.class);
+        if (column != null && !column.name().isEmpty()) {
+            return column.name().toLowerCase();
+        }
+        JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+        if (joinColumn != null && !joinColumn.name().isEmpty()) {
+            return joinColumn.name().toLowerCase();
+        }
+        return field.getName().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.assetManagementSystemServer.base.service;
+
+import com.example.assetManagementSystemServer.base.query.filter.FilterPlan;
+import com.example.assetManagementSystemServer.base.query.filter.FilterPlanCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 按过滤条件形态统计列表查询耗时
+ * 计时器 filter.query（entity、shape 标签）记录查询耗时；形态取自查询本身解析并缓存的过滤计划，
+ * 统计过程不额外访问过滤计划缓存的命中路径。形态为去掉字面量后的归一化条件，数量超过上限后归入 other，避免标签基数失控
+ */
+@Component
+@RequiredArgsConstructor
+public class FilterShapeStats {
+
+    /**
+     * 单独统计的形态数上限
+     */
+    private static final int MAX_SHAPES = 200;
+
+    private static final String NO_FILTER = "none";
+    private static final String OTHER = "other";
+
+    private final MeterRegistry registry;
+
+    private final Map<ShapeKey, ShapeTimer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * 执行并记录一次列表查询
+     * @param entityClass 实体类型
+     * @param filter      过滤条件字符串
+     * @param query       查询逻辑
+     */
+    public <R> R record(Class<?> entityClass, String filter, Supplier<R> query) {
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            return query.get();
+        } finally {
+            sample.stop(timerFor(entityClass, filter).timer());
+        }
+    }
+
+    /**
+     * 按 p99 降序列出最慢的过滤条件形态
+     * @param limit 返回条数
+     */
+    public List<ShapeStat> slowest(int limit) {
+        return timers.values().stream()
+                .map(ShapeTimer::toStat)
+                .sorted(Comparator.comparingDouble(ShapeStat::p99Millis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 查询执行期间 parseFilter 已编译并缓存了过滤计划，这里只查看缓存；
+     * 极少数情况下计划在此之前已被淘汰，归入 other
+     */
+    private ShapeTimer timerFor(Class<?> entityClass, String filter) {
+        boolean noFilter = filter == null || filter.trim().isEmpty();
+        FilterPlan plan = noFilter ? null : FilterPlanCache.peek(entityClass, filter);
+        if (!noFilter && plan == null) {
+            return otherTimer(entityClass);
+        }
+        String shape = plan == null ? NO_FILTER : plan.shape();
+        ShapeKey key = new ShapeKey(entityClass, shape);
+        ShapeTimer timer = timers.get(key);
+        if (timer != null) {
+            return timer;
+        }
+        if (timers.size() >= MAX_SHAPES) {
+            return otherTimer(entityClass);
+        }
+        List<String> unindexed = plan == null ? List.of() : plan.fields().stream()
+                .filter(field -> !EntityIndexes.isIndexed(entityClass, field))
+                .sorted()
+                .toList();
+        return timers.computeIfAbsent(key, k -> newTimer(k, unindexed));
+    }
+
+    private ShapeTimer otherTimer(Class<?> entityClass) {
+        return timers.computeIfAbsent(new ShapeKey(entityClass, OTHER), k -> newTimer(k, List.of()));
+    }
+
+    private ShapeTimer newTimer(ShapeKey key, List<String> unindexedFields) {
+        Timer timer = Timer.builder("filter.query")
+                .tag("entity", key.entityClass().getSimpleName())
+                .tag("shape", key.shape())
+                .description("列表查询耗时（按过滤条件形态）")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        return new ShapeTimer(key, timer, unindexedFields);
+    }
+
+    private record ShapeKey(Class<?> entityClass, String shape) {
+    }
+
+    private record ShapeTimer(ShapeKey key, Timer timer, List<String> unindexedFields) {
+
+        ShapeStat toStat() {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            double p50 = 0;
+            double p99 = 0;
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                if (percentile.percentile() == 0.5) {
+                    p50 = percentile.value(TimeUnit.MILLISECONDS);
+                } else if (percentile.percentile() == 0.99) {
+                    p99 = percentile.value(TimeUnit.MILLISECONDS);
+                }
+            }
+            return new ShapeStat(key.entityClass().getSimpleName(), key.shape(), snapshot.count(),
+                    p50, p99, snapshot.max(TimeUnit.MILLISECONDS), unindexedFields);
+        }
+    }
+
+    /**
+     * 单个过滤条件形态的耗时统计
+     *
+     * @param entity          实体名
+     * @param shape           归一化的条件形态
+     * @param count           查询次数
+     * @param p50Millis       耗时中位数（毫秒）
+     * @param p99Millis       耗时 99 分位（毫秒）
+     * @param maxMillis       最近窗口内的最大耗时（毫秒）
+     * @param unindexedFields 未命中任何索引首列的字段（建议补充索引）
+     */
+    public record ShapeStat(String entity, String shape, long count,
+                            double p50Millis, double p99Millis, double maxMillis,
+                            List<String> unindexedFields) {
+    }
+}
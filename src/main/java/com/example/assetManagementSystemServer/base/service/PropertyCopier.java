@@ -0,0 +1,85 @@
+package com.example.assetManagementSystemServer.base.service;
+
+import org.springframework.beans.BeanUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 实体属性复制器
+ * 按类型缓存可读写属性的访问方法，避免每次更新都创建 BeanWrapper 并反射全部属性描述
+ */
+public final class PropertyCopier {
+
+    private static final Map<Class<?>, PropertyCopier> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 属性名 -> 访问方法（跳过 id 与不可读写属性）
+     */
+    private final Map<String, Accessor> accessors = new LinkedHashMap<>();
+
+    private PropertyCopier(Class<?> type) {
+        for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(type)) {
+            if ("id".equals(pd.getName()) || pd.getReadMethod() == null || pd.getWriteMethod() == null) {
+                continue;
+            }
+            accessors.put(pd.getName(), new Accessor(pd.getReadMethod(), pd.getWriteMethod()));
+        }
+    }
+
+    /**
+     * 获取指定类型的复制器（首次使用时构建并缓存）
+     */
+    public static PropertyCopier forClass(Class<?> type) {
+        return CACHE.computeIfAbsent(type, PropertyCopier::new);
+    }
+
+    /**
+     * 将源对象的非空属性复制到目标对象
+     */
+    public void copyNonNull(Object source, Object target) {
+        for (Accessor accessor : accessors.values()) {
+            Object value = accessor.get(source);
+            if (value != null) {
+                accessor.set(target, value);
+            }
+        }
+    }
+
+    /**
+     * 设置单个属性
+     * @param target 目标对象
+     * @param name   属性名
+     * @param value  已转换为属性类型的值
+     */
+    public void setProperty(Object target, String name, Object value) {
+        Accessor accessor = accessors.get(name);
+        if (accessor == null) {
+            throw new IllegalArgumentException("属性不可写: " + name);
+        }
+        accessor.set(target, value);
+    }
+
+    private record Accessor(Method getter, Method setter) {
+
+        Object get(Object target) {
+            try {
+                return getter.invoke(target);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("读取属性失败: " + getter.getName(), e);
+            }
+        }
+
+        void set(Object target, Object value) {
+            try {
+                setter.invoke(target, value);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("写入属性失败: " + setter.getName(), e);
+            }
+        }
+    }
+}
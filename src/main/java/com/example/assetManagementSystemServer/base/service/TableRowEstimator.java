@@ -0,0 +1,66 @@
+package com.example.assetManagementSystemServer.base.service;
+
+import jakarta.persistence.Table;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 表行数估算
+ * 读取 MySQL information_schema 中的表统计信息（InnoDB 为采样估算值），结果短时缓存
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TableRowEstimator {
+
+    private static final String ESTIMATE_SQL =
+            "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    /**
+     * 估算值缓存有效期（毫秒）
+     */
+    private static final long TTL_MILLIS = 60_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Class<?>, Estimate> estimates = new ConcurrentHashMap<>();
+
+    /**
+     * 估算实体对应表的行数
+     * @param entityClass 实体类型
+     * @return 估算行数，统计信息不可用时返回 null
+     */
+    public Long estimate(Class<?> entityClass) {
+        long now = System.currentTimeMillis();
+        Estimate cached = estimates.get(entityClass);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.rows;
+        }
+
+        try {
+            Long rows = jdbcTemplate.query(ESTIMATE_SQL,
+                    rs -> rs.next() ? rs.getLong(1) : null,
+                    tableName(entityClass));
+            if (rows != null) {
+                estimates.put(entityClass, new Estimate(rows, now + TTL_MILLIS));
+            }
+            return rows;
+        } catch (Exception e) {
+            log.warn("读取表统计信息失败: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String tableName(Class<?> entityClass) {
+        Table table = entityClass.getAnnotation(Table.class);
+        return table != null && !table.name().isEmpty() ? table.name() : entityClass.getSimpleName();
+    }
+
+    private record Estimate(long rows, long expiresAt) {
+    }
+}
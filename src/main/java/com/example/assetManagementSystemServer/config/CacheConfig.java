@@ -0,0 +1,49 @@
+package com.example.assetManagementSystemServer.config;
+
+import com.example.assetManagementSystemServer.service.user.GroupMembershipIndex;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 声明式缓存配置（@Cacheable / @CacheEvict）
+ * 使用 Caffeine 作为本地缓存；缓存写入与失效推迟到事务提交后执行，避免回滚或提交前的并发读取留下旧值。
+ * 命中率等统计由 actuator 自动暴露（/actuator/metrics/cache.gets?tag=cache:userGroupsCache）
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * 用户所属群组缓存
+     */
+    public static final String USER_GROUPS_CACHE = "userGroupsCache";
+
+    /**
+     * 每个缓存的最大条目数
+     */
+    private static final int MAX_SIZE = 10_000;
+
+    /**
+     * 缓存有效期（兜底其他实例的写入）：与用户组成员关系索引保持同一撤销窗口，
+     * 避免 /groups/user/{userId} 比成员判断滞后更久
+     */
+    private static final Duration TTL = GroupMembershipIndex.TTL;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(USER_GROUPS_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(TTL)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.assetManagementSystemServer.config;
+
+import com.example.assetManagementSystemServer.base.query.filter.FilterPlanCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 过滤计划缓存指标
+ * 通过 actuator 暴露命中/未命中次数、淘汰次数与当前大小（/actuator/metrics/cache.gets?tag=cache:filterPlan），
+ * 以及未命中时的解析耗时 filter.parse
+ */
+@Component
+public class FilterPlanCacheMetrics implements MeterBinder {
+
+    private static final String CACHE_NAME = "filterPlan";
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", FilterPlanCache.class, c -> FilterPlanCache.hitCount())
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .description("过滤计划缓存命中次数")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", FilterPlanCache.class, c -> FilterPlanCache.missCount())
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .description("过滤计划缓存未命中次数")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", FilterPlanCache.class, c -> FilterPlanCache.evictionCount())
+                .tags("cache", CACHE_NAME)
+                .description("过滤计划缓存淘汰次数")
+                .register(registry);
+        FunctionTimer.builder("filter.parse", FilterPlanCache.class,
+                        c -> FilterPlanCache.missCount(), c -> FilterPlanCache.compileNanos(), TimeUnit.NANOSECONDS)
+                .description("过滤条件解析耗时（仅缓存未命中时）")
+                .register(registry);
+        Gauge.builder("cache.size", FilterPlanCache.class, c -> FilterPlanCache.size())
+                .tags("cache", CACHE_NAME)
+                .description("过滤计划缓存条目数")
+                .register(registry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.assetManagementSystemServer.config;
+
+import com.example.assetManagementSystemServer.base.service.FilterShapeStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 慢过滤条件端点
+ * /actuator/filtershapes?limit=20 按 p99 列出最慢的过滤条件形态，并标出缺少索引的字段
+ * （需在 management.endpoints.web.exposure.include 中开放 filtershapes）
+ */
+@Component
+@Endpoint(id = "filtershapes")
+@RequiredArgsConstructor
+public class FilterShapeEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final FilterShapeStats filterShapeStats;
+
+    @ReadOperation
+    public List<FilterShapeStats.ShapeStat> slowest(@Nullable Integer limit) {
+        return filterShapeStats.slowest(limit != null && limit > 0 ? limit : DEFAULT_LIMIT);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.assetManagementSystemServer.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JWT 非对称密钥配置
+ * 未配置任何密钥时沿用 jwt.secret 的 HMAC 签名
+ */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "jwt")
+public class JwtKeyProperties {
+    // 配置示例：
+    // jwt.signing-kid=2025-06
+    // jwt.keys[0].kid=2025-06
+    // jwt.keys[0].algorithm=RS256
+    // jwt.keys[0].public-key=MIIBIjANBgkqh...（X.509，PEM 或 Base64）
+    // jwt.keys[0].private-key=MIIEvQIBADANB...（PKCS#8，仅签发节点需要）
+    // jwt.keys[1].kid=2025-01            （轮换中的旧密钥，只保留公钥用于验签）
+    // jwt.keys[1].public-key=...
+
+    /**
+     * 签发使用的密钥ID（为空时本节点只验签不签发）
+     */
+    private String signingKid;
+
+    /**
+     * 当前有效的密钥集合
+     */
+    private List<Key> keys = new ArrayList<>();
+
+    /**
+     * 是否继续接受无 kid 的 HMAC 令牌（切换到非对称签名期间保持旧令牌可用）
+     */
+    private boolean acceptLegacyHmac = true;
+
+    @Setter
+    @Getter
+    public static class Key {
+        private String kid;
+        // RS256 / RS384 / RS512 / ES256 / ES384 / ES512
+        private String algorithm = "RS256";
+        private String publicKey;
+        private String privateKey;
+    }
+}
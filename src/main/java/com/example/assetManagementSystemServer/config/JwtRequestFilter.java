@@ -1,10 +1,18 @@
 package com.example.assetManagementSystemServer.config;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.assetManagementSystemServer.base.security.AuthUser;
 import com.example.assetManagementSystemServer.service.CustomUserDetailsService;
+import com.example.assetManagementSystemServer.service.user.SecurityVersionService;
+import com.example.assetManagementSystemServer.service.user.TokenRevocationService;
 import com.example.assetManagementSystemServer.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -18,6 +26,7 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
 import java.util.Enumeration;
+import java.util.List;
 
 /**
  * JWT 请求过滤器
@@ -28,6 +37,14 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService customUserDetailsService;
+    private final SecurityVersionService securityVersionService;
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * 无状态认证：根据令牌声明构建认证信息，仅比对安全版本号，不再逐请求加载用户
+     */
+    @Value("${jwt.stateless:true}")
+    private boolean stateless;
 
     /**
      * 过滤请求以验证 JWT
@@ -44,20 +61,31 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         final String authorizationHeader = request.getHeader("Authorization");
 
         String username = null;
-        String jwt = null;
+        DecodedJWT jwt = null;
 
         //字段是否存在且以"Bearer "开头，这是JWT的标准格式
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             //提取JWT令牌（去掉"Bearer "前缀）
-            jwt = authorizationHeader.substring(7);
-            username = jwtUtil.extractUsername(jwt);
+            //验签并解析（同一令牌的验签结果会被缓存）
+            //过期或无效的令牌按未认证处理，不中断请求：/auth/refresh 等公开接口仍可正常访问，受保护接口由安全配置拒绝
+            try {
+                jwt = jwtUtil.verify(authorizationHeader.substring(7));
+            } catch (JWTVerificationException e) {
+                logger.debug("忽略无效的访问令牌: " + e.getMessage());
+            }
+            //已吊销的令牌按未认证处理（未吊销时仅查一次布隆过滤器）
+            if (jwt != null && !tokenRevocationService.isRevoked(jwt.getId())) {
+                username = jwt.getSubject();
+            }
         }
         //如果用户名不为空且当前安全上下文中没有认证信息，则继续处理。
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            //加载用户详情
-            UserDetails userDetails = this.customUserDetailsService.loadUserByUsername(username);
-            //验证JWT令牌的有效性。
-            if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
+            //无状态模式下从令牌声明构建用户详情（旧令牌无版本号时仍加载用户）
+            UserDetails userDetails = stateless && !jwt.getClaim(JwtUtil.CLAIM_SECURITY_VERSION).isMissing()
+                    ? fromClaims(jwt)
+                    : this.customUserDetailsService.loadUserByUsername(username);
+            //验证JWT令牌的有效性，已禁用的账号不予认证。
+            if (userDetails != null && userDetails.isEnabled() && jwtUtil.validateToken(jwt, userDetails.getUsername())) {
                 //创建一个认证令牌，包含用户详情和权限信息。
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 // 设置认证令牌的详细信息
@@ -69,4 +97,22 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         //继续处理请求链，将请求传递给下一个过滤器或控制器。
         chain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 根据令牌声明构建用户详情
+     * @param jwt 已验签的令牌
+     * @return 用户详情，账号已禁用、安全版本号已过期（角色、状态、密码等已变更）或用户已删除时返回 null
+     */
+    private UserDetails fromClaims(DecodedJWT jwt) {
+        Long userId = jwt.getClaim("id").asLong();
+        Long version = jwt.getClaim(JwtUtil.CLAIM_SECURITY_VERSION).asLong();
+        Boolean status = jwt.getClaim("status").asBoolean();
+        if (userId == null || version == null || !Boolean.TRUE.equals(status)
+                || !securityVersionService.isCurrent(userId, version)) {
+            return null;
+        }
+        List<String> roles = jwt.getClaim("roles").asList(String.class);
+        List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList(roles == null ? List.of() : roles);
+        return new AuthUser(userId, jwt.getSubject(), "", authorities);
+    }
+}
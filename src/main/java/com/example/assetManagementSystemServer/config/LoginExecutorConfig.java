@@ -0,0 +1,39 @@
+package com.example.assetManagementSystemServer.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 登录线程池配置
+ * 密码校验（BCrypt）为 CPU 密集型操作，放在独立的有界线程池中执行，
+ * 避免登录高峰占满 Tomcat 请求线程；队列满时直接拒绝（429）
+ */
+@Configuration
+public class LoginExecutorConfig {
+
+    /**
+     * 工作线程数（0 表示按 CPU 核数）
+     */
+    @Value("${security.login.threads:0}")
+    private int threads;
+
+    /**
+     * 等待队列长度
+     */
+    @Value("${security.login.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor loginExecutor() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("login-");
+        // 默认拒绝策略：队列满时抛出 TaskRejectedException
+        return executor;
+    }
+}
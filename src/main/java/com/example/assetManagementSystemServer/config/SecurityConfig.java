@@ -1,8 +1,11 @@
 package com.example.assetManagementSystemServer.config;
 
 import com.example.assetManagementSystemServer.service.CustomUserDetailsService;
+import com.example.assetManagementSystemServer.service.user.SecurityVersionService;
+import com.example.assetManagementSystemServer.service.user.TokenRevocationService;
 import com.example.assetManagementSystemServer.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,7 +17,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -29,6 +31,14 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtUtil jwtUtil;
+    private final SecurityVersionService securityVersionService;
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * BCrypt 成本因子（4-31），调整后已有密码在下次登录成功时按新成本重新哈希
+     */
+    @Value("${security.bcrypt.strength:10}")
+    private int bcryptStrength;
 
     /**
      * 配置 HTTP 安全
@@ -43,6 +53,8 @@ public class SecurityConfig {
                 //设置URL的访问权限，/auth/**路径下的请求允许所有用户访问，其他请求需要认证。
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/**","/test/**").permitAll()
+                        // 本地存储的限时地址自带签名，无需登录
+                        .requestMatchers("/storage/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 //设置会话管理策略为无状态（STATELESS），意味着不依赖于服务器端的session。
@@ -70,7 +82,7 @@ public class SecurityConfig {
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new AdaptiveBCryptPasswordEncoder(bcryptStrength);
     }
 
     /**
@@ -82,6 +94,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider();
         daoAuthenticationProvider.setUserDetailsService(customUserDetailsService);
         daoAuthenticationProvider.setPasswordEncoder(passwordEncoder());
+        // 成本因子变化时登录成功后自动重新哈希
+        daoAuthenticationProvider.setUserDetailsPasswordService(customUserDetailsService);
         return daoAuthenticationProvider;
     }
 
@@ -91,6 +105,6 @@ public class SecurityConfig {
      */
     @Bean
     public JwtRequestFilter jwtRequestFilter() {
-        return new JwtRequestFilter(jwtUtil, customUserDetailsService);
+        return new JwtRequestFilter(jwtUtil, customUserDetailsService, securityVersionService, tokenRevocationService);
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.example.assetManagementSystemServer.config;
+
+import com.example.assetManagementSystemServer.service.user.GroupMembershipIndex;
+import com.example.assetManagementSystemServer.service.user.UserCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * 用户缓存指标（含用户组成员关系索引）
+ * 通过 actuator 暴露命中/未命中次数、淘汰次数与当前大小（/actuator/metrics/cache.gets?tag=cache:userById）
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheMetrics implements MeterBinder {
+
+    private final UserCache userCache;
+    private final GroupMembershipIndex groupMembershipIndex;
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, userCache.usersById(), "userById");
+        CaffeineCacheMetrics.monitor(registry, userCache.idsByUserName(), "userIdByName");
+        CaffeineCacheMetrics.monitor(registry, groupMembershipIndex.groupsByUser(), "groupMembership");
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.assetManagementSystemServer.config;
+
+import com.example.assetManagementSystemServer.util.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * 已验签令牌缓存指标
+ * 通过 actuator 暴露命中/未命中次数、淘汰次数与当前大小（/actuator/metrics/cache.gets?tag=cache:verifiedToken）
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCacheMetrics implements MeterBinder {
+
+    private final VerifiedTokenCache cache;
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache.tokens(), "verifiedToken");
+    }
+}
@@ -1,21 +1,29 @@
 package com.example.assetManagementSystemServer.controller;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.example.assetManagementSystemServer.base.BaseResponse;
+import com.example.assetManagementSystemServer.dto.RefreshTokenDTO;
+import com.example.assetManagementSystemServer.dto.TokenDTO;
 import com.example.assetManagementSystemServer.enums.ResponseStatusEnum;
 import com.example.assetManagementSystemServer.exception.BusinessException;
 import com.example.assetManagementSystemServer.entity.user.User;
+import com.example.assetManagementSystemServer.service.user.RefreshTokenService;
+import com.example.assetManagementSystemServer.service.user.TokenRevocationService;
 import com.example.assetManagementSystemServer.service.user.UserService;
 import com.example.assetManagementSystemServer.util.JwtUtil;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 认证控制器
@@ -28,16 +36,33 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
 
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
     private final JwtUtil jwtUtil;
 
+    private final ThreadPoolTaskExecutor loginExecutor;
+
     /**
      * 用户登录
+     * 密码校验在独立的登录线程池中执行，线程池饱和时直接返回 429
      * @param user 用户对象
-     * @return JWT
+     * @return 访问令牌与刷新令牌
      * @throws AuthenticationException 认证异常
      */
     @PostMapping("/login")
-    public ResponseEntity<BaseResponse<String>> login(@RequestBody User user) throws AuthenticationException {
+    public CompletableFuture<ResponseEntity<BaseResponse<TokenDTO>>> login(@RequestBody User user) throws AuthenticationException {
+        try {
+            return CompletableFuture.supplyAsync(() -> ResponseEntity.ok(BaseResponse.success(authenticate(user))), loginExecutor);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(BaseResponse.fail(ResponseStatusEnum.TOO_MANY_REQUESTS)));
+        }
+    }
+
+    /**
+     * 校验用户名密码并签发令牌
+     */
+    private TokenDTO authenticate(User user) {
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
@@ -46,15 +71,42 @@ public class AuthController {
                     )
             );
 
-            // 获取用户权限信息
-            Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
-            User User1 = userService.getUserByUserName(user.getUserName());
-            // 生成包含角色的 Token
-
-            final String token = jwtUtil.generateToken(user.getUserName(),User1.getId(),User1.isStatus(), authorities);
-            return ResponseEntity.ok(BaseResponse.success(token));
+            User User1 = userService.getUserByUserName(authentication.getName());
+            // 生成包含角色的访问令牌与刷新令牌
+            return refreshTokenService.issue(User1);
         } catch (AuthenticationException e) {
             throw new BusinessException(ResponseStatusEnum.INVALID_CREDENTIALS);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 刷新令牌
+     * 凭刷新令牌换取新的令牌对，不再校验密码；旧刷新令牌随即作废
+     * @param dto 刷新令牌
+     * @return 新的访问令牌与刷新令牌
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<BaseResponse<TokenDTO>> refresh(@Valid @RequestBody RefreshTokenDTO dto) {
+        return ResponseEntity.ok(BaseResponse.success(refreshTokenService.refresh(dto.getRefreshToken())));
+    }
+
+    /**
+     * 退出登录（注销刷新令牌，并吊销当前访问令牌；访问令牌已过期或无效时无需吊销）
+     * @param dto           刷新令牌
+     * @param authorization 当前访问令牌（可选）
+     * @return 操作结果
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<BaseResponse<Void>> logout(@Valid @RequestBody RefreshTokenDTO dto,
+                                                     @RequestHeader(value = "Authorization", required = false) String authorization) {
+        refreshTokenService.revoke(dto.getRefreshToken());
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            try {
+                tokenRevocationService.revoke(jwtUtil.verify(authorization.substring(7)));
+            } catch (JWTVerificationException ignored) {
+                // 过期或无效的访问令牌本身已无法使用
+            }
+        }
+        return ResponseEntity.ok(BaseResponse.success(null));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.assetManagementSystemServer.controller;
+
+import com.example.assetManagementSystemServer.enums.BucketType;
+import com.example.assetManagementSystemServer.service.storage.LocalStorageBackend;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 本地存储文件访问
+ * 校验 LocalStorageBackend 签发的限时地址（相当于 COS 的预签名 URL），通过后返回文件内容
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/storage")
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class StorageController {
+
+    private final LocalStorageBackend storage;
+
+    /**
+     * 下载/预览文件
+     * @param bucket   存储桶（public/groups/private）
+     * @param key      对象 key
+     * @param expires  过期时间（秒级时间戳）
+     * @param download 下载文件名（为空时内联预览）
+     * @param sig      签名
+     * @return 文件内容，签名无效或已过期时返回 403，文件不存在时返回 404
+     */
+    @GetMapping("/{bucket}")
+    public ResponseEntity<StreamingResponseBody> get(@PathVariable String bucket,
+                                                     @RequestParam String key,
+                                                     @RequestParam long expires,
+                                                     @RequestParam(required = false) String download,
+                                                     @RequestParam String sig) {
+        BucketType type = storage.bucketType(bucket);
+        if (!storage.verify(type, key, expires, download, sig)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        // 响应体在状态码发出后才写出，须在此之前确认文件存在
+        if (!storage.exists(type, key)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        ContentDisposition disposition = download == null || download.isEmpty()
+                ? ContentDisposition.inline().build()
+                : ContentDisposition.attachment().filename(download, StandardCharsets.UTF_8).build();
+        StreamingResponseBody body = out -> storage.get(type, key, Channels.newChannel(out));
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
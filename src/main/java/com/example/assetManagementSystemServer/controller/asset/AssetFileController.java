@@ -12,8 +12,6 @@ import com.example.assetManagementSystemServer.service.asset.AssetFileService;
 import com.example.assetManagementSystemServer.service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -47,14 +45,8 @@ public class AssetFileController {
      * @implNote 依赖Spring Security的认证上下文，需确保配置正确的安全过滤器链
      */
     private Long getCurrentUserId() {
-
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        // 从Principal中提取用户名
-        String username = authentication.getName();
-
-        // 通过用户名查询用户服务获取ID
-        return userService.getUserByUserName(username).getId();
+        // 从认证主体中获取当前用户ID
+        return userService.getCurrentUserId();
     }
 
     /**
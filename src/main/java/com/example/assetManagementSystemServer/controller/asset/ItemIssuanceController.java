@@ -1,12 +1,19 @@
 package com.example.assetManagementSystemServer.controller.asset;
 
+import com.example.assetManagementSystemServer.base.export.ExportFormat;
+import com.example.assetManagementSystemServer.base.export.StreamingExport;
+import com.example.assetManagementSystemServer.base.query.ListParam;
 import com.example.assetManagementSystemServer.entity.asset.ItemIssuance;
 import com.example.assetManagementSystemServer.service.asset.ItemIssuanceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/itemIssuance")
@@ -18,4 +25,11 @@ public class ItemIssuanceController {
     public void issueItem(@RequestBody ItemIssuance itemIssuance) {
         itemIssuanceService.issueItem(itemIssuance);
     }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(ListParam listParam,
+                                                        @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return StreamingExport.of("item-issuances", exportFormat, itemIssuanceService.export(listParam, exportFormat));
+    }
 }
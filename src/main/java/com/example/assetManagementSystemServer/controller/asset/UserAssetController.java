@@ -1,11 +1,15 @@
 package com.example.assetManagementSystemServer.controller.asset;
 
+import com.example.assetManagementSystemServer.base.export.ExportFormat;
+import com.example.assetManagementSystemServer.base.export.StreamingExport;
 import com.example.assetManagementSystemServer.base.query.Items;
 import com.example.assetManagementSystemServer.base.query.ListParam;
 import com.example.assetManagementSystemServer.entity.asset.UserAsset;
 import com.example.assetManagementSystemServer.service.asset.UserAssetService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/userAsset")
@@ -18,6 +22,13 @@ public class UserAssetController {
         return userAssetService.list(listParam);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(ListParam listParam,
+                                                        @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return StreamingExport.of("user-assets", exportFormat, userAssetService.export(listParam, exportFormat));
+    }
+
     @PatchMapping
     private void revertUserAsset(@RequestBody Long id) {
         userAssetService.revertUserAsset(id);
@@ -1,6 +1,8 @@
 package com.example.assetManagementSystemServer.controller.purchas;
 
 import com.example.assetManagementSystemServer.base.BaseResponse;
+import com.example.assetManagementSystemServer.base.export.ExportFormat;
+import com.example.assetManagementSystemServer.base.export.StreamingExport;
 import com.example.assetManagementSystemServer.base.query.Items;
 import com.example.assetManagementSystemServer.base.query.ListParam;
 import com.example.assetManagementSystemServer.dto.MonthlyTotalPrice;
@@ -10,6 +12,7 @@ import com.example.assetManagementSystemServer.service.purchase.PurchaseOrderSer
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -20,8 +23,15 @@ public class PurchaseOrderController {
     private final PurchaseOrderService purchaseOrderService;
 
     @GetMapping
-    public Items<PurchaseOrder> getPurchaseOrder(ListParam listParam) {
-        return purchaseOrderService.list(listParam);
+    public Items<?> getPurchaseOrder(ListParam listParam) {
+        return purchaseOrderService.select(listParam);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(ListParam listParam,
+                                                        @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return StreamingExport.of("purchase-orders", exportFormat, purchaseOrderService.export(listParam, exportFormat));
     }
 
     @PostMapping
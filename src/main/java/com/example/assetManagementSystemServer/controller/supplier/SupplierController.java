@@ -2,8 +2,10 @@ package com.example.assetManagementSystemServer.controller.supplier;
 
 import com.example.assetManagementSystemServer.base.query.Items;
 import com.example.assetManagementSystemServer.base.query.ListParam;
+import com.example.assetManagementSystemServer.dto.BatchPatchDTO;
 import com.example.assetManagementSystemServer.entity.supplier.Supplier;
 import com.example.assetManagementSystemServer.service.supplier.SupplierService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,8 +16,8 @@ public class SupplierController {
     private final SupplierService supplierService;
 
     @GetMapping
-    public Items<Supplier> getSuppliers(ListParam listParam) {
-        return supplierService.list(listParam);
+    public Items<?> getSuppliers(ListParam listParam) {
+        return supplierService.select(listParam);
     }
 
     @PatchMapping
@@ -23,6 +25,11 @@ public class SupplierController {
         supplierService.updateSupplier(supplier);
     }
 
+    @PatchMapping("/batch")
+    public int batchPatch(@Valid @RequestBody BatchPatchDTO dto) {
+        return supplierService.patch(dto.getIds(), dto.getChanges());
+    }
+
     @PostMapping
     public void createSupplier(@RequestBody Supplier supplier) {
         supplierService.createSupplier(supplier);
@@ -3,6 +3,7 @@ package com.example.assetManagementSystemServer.controller.user;
 import com.example.assetManagementSystemServer.base.query.Items;
 import com.example.assetManagementSystemServer.base.query.ListParam;
 import com.example.assetManagementSystemServer.base.BaseResponse;
+import com.example.assetManagementSystemServer.dto.GroupMemberDTO;
 import com.example.assetManagementSystemServer.entity.user.UserGroupRelation;
 import com.example.assetManagementSystemServer.enums.ResponseStatusEnum;
 import com.example.assetManagementSystemServer.service.user.UserGroupRelationService;
@@ -39,6 +40,16 @@ public class UserGroupMemberController {
         );
     }
 
+    // 批量移除成员
+    @DeleteMapping("/batch")
+    public BaseResponse<Integer> batchRemoveMembers(
+            @PathVariable Long groupId,
+            @RequestBody List<Long> userIds) {
+        return BaseResponse.success(
+                relationService.batchRemoveUsers(groupId, userIds)
+        );
+    }
+
     // 移除成员
     @DeleteMapping("/{userId}")
     public BaseResponse<String> removeMember(
@@ -48,9 +59,9 @@ public class UserGroupMemberController {
         return BaseResponse.success(ResponseStatusEnum.SUCCESS.getMessage());
     }
 
-    // 分页查询组成员
+    // 分页查询组成员（默认偏移分页；传 cursor 时为游标分页，返回 next 作为下一页 cursor）
     @GetMapping
-    public BaseResponse<Items<UserGroupRelation>> listMembers(
+    public BaseResponse<Items<GroupMemberDTO>> listMembers(
             @PathVariable Long groupId,
             @Valid ListParam param) {
         return BaseResponse.success(
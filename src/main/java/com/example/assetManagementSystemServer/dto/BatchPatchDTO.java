@@ -0,0 +1,16 @@
+package com.example.assetManagementSystemServer.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class BatchPatchDTO {
+    @NotEmpty(message = "ID列表不能为空")
+    private List<Long> ids;
+
+    @NotEmpty(message = "更新内容不能为空")
+    private Map<String, Object> changes;
+}
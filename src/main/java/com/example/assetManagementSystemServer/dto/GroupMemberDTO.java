@@ -0,0 +1,23 @@
+package com.example.assetManagementSystemServer.dto;
+
+import com.example.assetManagementSystemServer.enums.RoleEnum;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 用户组成员（列表投影）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupMemberDTO {
+    private Long userId;
+    private String userName;
+    private RoleEnum role;
+    private String avatarCosKey;
+    // 加入时间
+    private LocalDateTime joinedAt;
+}
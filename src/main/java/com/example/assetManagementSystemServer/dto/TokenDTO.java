@@ -0,0 +1,17 @@
+package com.example.assetManagementSystemServer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenDTO {
+    // 访问令牌（JWT）
+    private String accessToken;
+    // 刷新令牌（不透明字符串，仅用于 /auth/refresh）
+    private String refreshToken;
+    // 访问令牌有效期（毫秒）
+    private long expiresIn;
+}
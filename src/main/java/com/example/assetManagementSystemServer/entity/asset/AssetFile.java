@@ -16,7 +16,7 @@ import java.time.LocalDateTime;
  */
 @Data
 @Entity
-@Table(name = "asset_file")
+@Table(name = "asset_file", indexes = @Index(name = "idx_asset_file_created_at", columnList = "created_at"))
 public class AssetFile {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
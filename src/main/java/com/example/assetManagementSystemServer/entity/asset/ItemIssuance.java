@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
  */
 @Data
 @Entity
-@Table(name = "item_issuance")
+@Table(name = "item_issuance", indexes = @Index(name = "idx_item_issuance_issued_at", columnList = "issued_at"))
 public class ItemIssuance {
     /**
      * 主键ID（自增）
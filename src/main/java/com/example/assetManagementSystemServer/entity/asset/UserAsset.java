@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "user_asset")
+@Table(name = "user_asset", indexes = @Index(name = "idx_user_asset_acquired_date", columnList = "acquired_date"))
 @Data
 public class UserAsset {
     @Id
@@ -15,7 +15,7 @@ import java.util.Map;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "purchase_order")
+@Table(name = "purchase_order", indexes = @Index(name = "idx_purchase_order_purchase_date", columnList = "purchase_date"))
 public class PurchaseOrder {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,36 @@
+package com.example.assetManagementSystemServer.entity.user;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 刷新令牌
+ * 只保存令牌的 SHA-256 摘要；每次刷新后旧令牌作废并签发新令牌（轮换）
+ */
+@Data
+@Entity
+@Table(name = "refresh_token", indexes = @Index(name = "idx_refresh_token_user_id", columnList = "user_id"))
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    //令牌摘要（十六进制 SHA-256），原始令牌不落库
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    //签发时的用户安全版本号，版本变更后刷新令牌随之失效
+    @Column(name = "security_version", nullable = false)
+    private long securityVersion;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
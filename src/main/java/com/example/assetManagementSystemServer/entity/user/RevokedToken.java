@@ -0,0 +1,26 @@
+package com.example.assetManagementSystemServer.entity.user;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 已吊销的访问令牌
+ * 以令牌 ID（jti）登记，令牌过期后记录即可清理
+ */
+@Data
+@Entity
+@Table(name = "revoked_token", indexes = @Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at"))
+public class RevokedToken {
+    @Id
+    @Column(length = 64)
+    private String jti;
+
+    //令牌原过期时间，此后记录无需保留
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false, updatable = false)
+    private LocalDateTime revokedAt = LocalDateTime.now();
+}
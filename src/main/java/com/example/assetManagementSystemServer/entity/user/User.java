@@ -1,6 +1,7 @@
 package com.example.assetManagementSystemServer.entity.user;
 
 import com.example.assetManagementSystemServer.enums.RoleEnum;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
@@ -43,4 +44,9 @@ public class User {
 
     @Column(name = "avatar_cos_key")
     private String avatarCosKey; // 存储COS文件路径（如 "avatars/user123.jpg"）
+
+    //安全版本号：角色、状态、密码等变更时递增，签发时写入令牌，版本不一致的旧令牌不再被接受
+    @JsonIgnore
+    @Column(name = "security_version", nullable = false)
+    private long securityVersion;
 }
@@ -11,12 +11,12 @@ public class UserGroupRelation {
     @EmbeddedId
     private UserGroupRelationId id = new UserGroupRelationId();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("groupId") // 映射到复合主键的groupId字段
     @JoinColumn(name = "group_id")
     private UserGroup group;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("userId") // 映射到复合主键的userId字段
     @JoinColumn(name = "user_id")
     private User user;
@@ -13,6 +13,7 @@ public enum ResponseStatusEnum {
     UNAUTHORIZED(401, "未授权访问", HttpStatus.UNAUTHORIZED),
     FORBIDDEN(403, "禁止访问", HttpStatus.FORBIDDEN),
     NOT_FOUND(404, "资源不存在", HttpStatus.NOT_FOUND),
+    TOO_MANY_REQUESTS(429, "请求过多，请稍后重试", HttpStatus.TOO_MANY_REQUESTS),
     INTERNAL_ERROR(500, "服务器内部错误", HttpStatus.INTERNAL_SERVER_ERROR),
 
     // 认证相关 (4001xxx)
@@ -20,6 +21,7 @@ public enum ResponseStatusEnum {
     INVALID_CREDENTIALS(4001002, "用户名或密码错误", HttpStatus.BAD_REQUEST),
     TOKEN_EXPIRED(4001003, "身份令牌已过期", HttpStatus.UNAUTHORIZED),
     INVALID_TOKEN(4001004, "无效身份令牌", HttpStatus.UNAUTHORIZED),
+    INVALID_REFRESH_TOKEN(4001005, "刷新令牌无效或已过期", HttpStatus.UNAUTHORIZED),
 
     // 业务通用错误 (4002xxx)
     DATA_VALIDATION_FAILED(4002001, "数据校验失败", HttpStatus.BAD_REQUEST),
@@ -10,5 +10,16 @@ public interface UserAssetRepository extends BaseRepository<UserAsset, Long> {
 
      UserAsset findFirstById(Long id);
 
+     /**
+      * 用户是否已有该资产的申请/领用记录（SELECT 1 ... LIMIT 1，不加载记录）
+      */
+     default boolean existsByUserAndAsset(Long userId, Long assetId, String assetType) {
+          return exists((root, query, cb) -> cb.and(
+                  cb.equal(root.get("userId"), userId),
+                  cb.equal(root.get("assetId"), assetId),
+                  cb.equal(root.get("assetType"), assetType)
+          ));
+     }
+
 
 }
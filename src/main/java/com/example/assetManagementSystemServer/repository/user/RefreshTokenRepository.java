@@ -0,0 +1,44 @@
+package com.example.assetManagementSystemServer.repository.user;
+
+import com.example.assetManagementSystemServer.base.repository.BaseRepository;
+import com.example.assetManagementSystemServer.entity.user.RefreshToken;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 刷新令牌数据访问接口
+ */
+@Repository
+public interface RefreshTokenRepository extends BaseRepository<RefreshToken, Long> {
+    /**
+     * 根据令牌摘要查找
+     * @param tokenHash 令牌摘要
+     * @return 刷新令牌（Optional）
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 按摘要删除（返回删除行数，用于判断并发刷新时是否已被他人消费）
+     * @param tokenHash 令牌摘要
+     * @return 删除行数
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // 删除用户的全部刷新令牌
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.userId IN :userIds")
+    int deleteByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 清理用户已过期的刷新令牌
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.userId = :userId AND t.expiresAt < :now")
+    int deleteExpiredByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+}
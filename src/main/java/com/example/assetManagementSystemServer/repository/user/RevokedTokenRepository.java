@@ -0,0 +1,31 @@
+package com.example.assetManagementSystemServer.repository.user;
+
+import com.example.assetManagementSystemServer.base.repository.BaseRepository;
+import com.example.assetManagementSystemServer.entity.user.RevokedToken;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 已吊销令牌数据访问接口
+ */
+@Repository
+public interface RevokedTokenRepository extends BaseRepository<RevokedToken, String> {
+    /**
+     * 查询指定时间之后吊销、且尚未过期的令牌ID（增量同步）
+     * @param since 起始时间
+     * @param now   当前时间
+     * @return 令牌ID列表
+     */
+    @Query("SELECT t.jti FROM RevokedToken t WHERE t.revokedAt >= :since AND t.expiresAt > :now")
+    List<String> findActiveJtisRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    // 清理已过期的吊销记录
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
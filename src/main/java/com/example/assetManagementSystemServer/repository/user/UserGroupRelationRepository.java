@@ -1,10 +1,15 @@
 package com.example.assetManagementSystemServer.repository.user;
 
 import com.example.assetManagementSystemServer.base.repository.BaseRepository;
+import com.example.assetManagementSystemServer.dto.GroupMemberDTO;
 import com.example.assetManagementSystemServer.entity.user.UserGroupRelation;
 import com.example.assetManagementSystemServer.entity.user.UserGroupRelationId;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
@@ -13,18 +18,18 @@ import java.util.List;
 public interface UserGroupRelationRepository extends BaseRepository<UserGroupRelation, UserGroupRelationId> {
 
     /**
-     * 检查用户是否在组中（高性能实现）
+     * 检查用户是否在组中（按主键列判断，SELECT 1 ... LIMIT 1）
      * @param groupId 用户组ID
      * @param userId 用户ID
      * @return 是否存在关系
      */
     default boolean existsRelation(Long groupId, Long userId) {
-        return count((root, query, cb) ->
+        return exists((root, query, cb) ->
                 cb.and(
-                        cb.equal(root.get("group").get("id"), groupId),
-                        cb.equal(root.get("user").get("id"), userId)
+                        cb.equal(root.get("id").get("groupId"), groupId),
+                        cb.equal(root.get("id").get("userId"), userId)
                 )
-        ) > 0;
+        );
     }
 
     /**
@@ -78,14 +83,41 @@ public interface UserGroupRelationRepository extends BaseRepository<UserGroupRel
      * 检查特定关系是否存在
      */
     default boolean existsByGroupIdAndUserId(Long groupId, Long userId) {
-        return count((root, query, cb) ->
-                cb.and(
-                        cb.equal(root.get("group").get("id"), groupId),
-                        cb.equal(root.get("user").get("id"), userId)
-                )
-        ) > 0;
+        return existsRelation(groupId, userId);
     }
 
+    /**
+     * 查询给定用户中已是组成员的用户ID
+     * @param groupId 用户组ID
+     * @param userIds 候选用户ID
+     * @return 已在组中的用户ID
+     */
+    @Query("SELECT r.id.userId FROM UserGroupRelation r WHERE r.id.groupId = :groupId AND r.id.userId IN :userIds")
+    List<Long> findMemberIds(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 按用户ID游标查询组成员（单条关联查询，走 (group_id, user_id) 主键）
+     * @param groupId     用户组ID
+     * @param afterUserId 上一页最后一个用户ID（第一页传 0）
+     * @param limit       返回条数
+     * @return 成员投影
+     */
+    @Query("SELECT new com.example.assetManagementSystemServer.dto.GroupMemberDTO(u.id, u.userName, u.role, u.avatarCosKey, r.createdAt) " +
+            "FROM UserGroupRelation r JOIN r.user u " +
+            "WHERE r.id.groupId = :groupId AND r.id.userId > :afterUserId ORDER BY r.id.userId")
+    List<GroupMemberDTO> findMembersAfter(@Param("groupId") Long groupId, @Param("afterUserId") Long afterUserId, Limit limit);
+
+    /**
+     * 按偏移分页查询组成员（兼容未使用游标的旧客户端，深分页请使用游标）
+     * @param groupId  用户组ID
+     * @param pageable 分页参数
+     * @return 成员投影
+     */
+    @Query("SELECT new com.example.assetManagementSystemServer.dto.GroupMemberDTO(u.id, u.userName, u.role, u.avatarCosKey, r.createdAt) " +
+            "FROM UserGroupRelation r JOIN r.user u " +
+            "WHERE r.id.groupId = :groupId ORDER BY r.id.userId")
+    Slice<GroupMemberDTO> findMembers(@Param("groupId") Long groupId, Pageable pageable);
+
     @Query("SELECT r.id FROM UserGroupRelation r WHERE r.user.id = ?1")
     List<UserGroupRelationId> findGroupIdsByUserId(Long userId);
 }
\ No newline at end of file
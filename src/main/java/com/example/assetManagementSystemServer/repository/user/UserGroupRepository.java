@@ -9,14 +9,14 @@ import org.springframework.data.repository.query.Param;
 public interface UserGroupRepository extends BaseRepository<UserGroup, Long> {
 
     /**
-     * 自定义存在性检查（更高效的方式）
+     * 自定义存在性检查（SELECT 1 ... LIMIT 1）
      * @param groupName 用户组名称
      * @return 是否存在同名组
      */
     default boolean existsByGroupName(String groupName) {
-        return count((root, query, cb) ->
+        return exists((root, query, cb) ->
                 cb.equal(root.get("groupName"), groupName)
-        ) > 0;
+        );
     }
 
     /**
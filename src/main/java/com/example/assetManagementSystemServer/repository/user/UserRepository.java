@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,8 +28,24 @@ public interface UserRepository extends BaseRepository<User, Long> {
     @Query("DELETE FROM User u WHERE u.id IN :ids")
     void deleteBatch(@Param("ids") List<Integer> ids);
 
-    // 批量更新状态
+    // 批量更新状态（同时递增安全版本号，使已签发的令牌失效）
     @Modifying
-    @Query("UPDATE User u SET u.status = :status WHERE u.id IN :ids")
+    @Query("UPDATE User u SET u.status = :status, u.securityVersion = u.securityVersion + 1 WHERE u.id IN :ids")
     int updateStatusBatch(@Param("status") boolean status, @Param("ids") List<Integer> ids);
-}
\ No newline at end of file
+
+    /**
+     * 查询用户的安全版本号
+     * @param id 用户ID
+     * @return 安全版本号（用户不存在时为空）
+     */
+    @Query("SELECT u.securityVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findSecurityVersionById(@Param("id") Long id);
+
+    /**
+     * 查询给定ID中实际存在的用户ID
+     * @param ids 用户ID
+     * @return 存在的用户ID
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
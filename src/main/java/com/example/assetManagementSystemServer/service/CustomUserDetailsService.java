@@ -1,11 +1,15 @@
 package com.example.assetManagementSystemServer.service;
 
+import com.example.assetManagementSystemServer.base.security.AuthUser;
 import com.example.assetManagementSystemServer.entity.user.User;
 import com.example.assetManagementSystemServer.repository.user.UserRepository;
+import com.example.assetManagementSystemServer.service.user.UserCache;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -15,8 +19,9 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
+    private final UserCache userCache;
     private final UserRepository userRepository;
     /**
      * 根据用户名加载用户
@@ -27,11 +32,28 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // 查找用户
-        User user = userRepository.findByUserName(username)
+        User user = userCache.findByUserName(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
         // 构建用户权限列表
         List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList(user.getRole().getDescription());
-        // 使用完全限定名解决命名冲突
-        return new org.springframework.security.core.userdetails.User(user.getUserName(), user.getUserPassword(), authorities);
+        // 携带用户ID，后续可直接从认证主体获取；禁用的账号由 DaoAuthenticationProvider 拒绝登录
+        return new AuthUser(user.getId(), user.getUserName(), user.getUserPassword(), user.isStatus(), authorities);
     }
-}
\ No newline at end of file
+
+    /**
+     * 登录成功后按当前成本因子重新哈希密码
+     * @param user        已认证的用户
+     * @param newPassword 新的密码哈希
+     * @return 更新后的用户详情
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = userRepository.findByUserName(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + user.getUsername()));
+        entity.setUserPassword(newPassword);
+        userRepository.save(entity);
+        userCache.evict(List.of(entity.getId()));
+        return new AuthUser(entity.getId(), entity.getUserName(), newPassword, entity.isStatus(), user.getAuthorities());
+    }
+}
@@ -10,9 +10,9 @@ import com.example.assetManagementSystemServer.enums.*;
 import com.example.assetManagementSystemServer.exception.BusinessException;
 import com.example.assetManagementSystemServer.repository.asset.AssetFileRepository;
 import com.example.assetManagementSystemServer.repository.asset.AssetRepository;
-import com.example.assetManagementSystemServer.service.storage.CosService;
+import com.example.assetManagementSystemServer.service.storage.StorageBackend;
+import com.example.assetManagementSystemServer.service.storage.StoragePaths;
 import com.example.assetManagementSystemServer.service.user.UserGroupService;
-import com.qcloud.cos.model.ResponseHeaderOverrides;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
@@ -38,7 +38,8 @@ public class AssetFileService extends BaseService<AssetFile, Long> {
     private final UserGroupService userGroupService;
     private final AssetFileRepository assetFileRepository;
     private final AssetRepository assetRepository;
-    private final CosService cosService;
+    private final StorageBackend storage;
+    private final StoragePaths storagePaths;
 
     @Transactional(readOnly = true)
     public Long countByPublic(){
@@ -75,14 +76,14 @@ public class AssetFileService extends BaseService<AssetFile, Long> {
             Asset asset = assetService.findOrCreateAsset(
                     visibility, ownerUserId, ownerGroupId, AssetType.FILE);
 
-            // 3. 上传到COS
+            // 3. 上传到存储后端
             BucketType bucketType = getBucketType(visibility);
-            String cosUrl = cosService.uploadFile(
+            String key = storage.upload(bucketType, storagePaths.generateKey(
                     bucketType,
                     "documents",
-                    file,
+                    file.getOriginalFilename(),
                     getOwnerId(visibility, ownerUserId, ownerGroupId)
-            );
+            ), file);
 
             // 4. 创建文件记录
             AssetFile assetFile = new AssetFile();
@@ -91,7 +92,7 @@ public class AssetFileService extends BaseService<AssetFile, Long> {
             assetFile.setFileName(sanitizeFilename(file.getOriginalFilename()));
             assetFile.setFileType(file.getContentType());
             assetFile.setFileSize(file.getSize());
-            assetFile.setCosKey(extractCosKey(cosUrl));
+            assetFile.setCosKey(key);
             assetFile.setUploadUserId(uploadUserId);
 
             // 5. 保存记录
@@ -125,19 +126,10 @@ public class AssetFileService extends BaseService<AssetFile, Long> {
             throw new BusinessException(ResponseStatusEnum.PREVIEW_NOT_SUPPORTED);
         }
 
-        String processParams = null;
-
-        String key;
-        if (file.getBucketType()== BucketType.GROUPS){
-            key=file.getCosKey();
-        }else {
-            key=file.getCosKey().substring(file.getCosKey().lastIndexOf(".com")+5);
-        }
-        return cosService.generateDynamicUrl(
+        return storage.presign(
                 file.getBucketType(),
-                key,
-                processParams,
-                120
+                storage.objectKey(file.getCosKey()),
+                StorageBackend.PresignOptions.inline(120)
         );
     }
 
@@ -150,11 +142,10 @@ public class AssetFileService extends BaseService<AssetFile, Long> {
             throw new BusinessException(ResponseStatusEnum.PREVIEW_NOT_SUPPORTED);
         }
 
-        return cosService.generateDynamicUrl(
+        return storage.presign(
                 file.getBucketType(),
-                file.getCosKey(),
-                "imageMogr2/thumbnail/!300x300r/format/webp",
-                120
+                storage.objectKey(file.getCosKey()),
+                StorageBackend.PresignOptions.processed(120, "imageMogr2/thumbnail/!300x300r/format/webp")
         );
     }
 
@@ -163,20 +154,10 @@ public class AssetFileService extends BaseService<AssetFile, Long> {
         AssetFile file = getFileEntity(fileId);
         checkAccessPermission(file, currentUser);
 
-        ResponseHeaderOverrides headers = new ResponseHeaderOverrides();
-        headers.setContentDisposition("attachment; filename=\"" + file.getFileName() + "\"");
-        System.out.println(file.getFileName());
-        String key;
-        if (file.getBucketType()== BucketType.GROUPS){
-            key=file.getCosKey();
-        }else {
-            key=file.getCosKey().substring(file.getCosKey().lastIndexOf(".com")+5);
-        }
-        return cosService.generateDownloadUrl(
+        return storage.presign(
                 file.getBucketType(),
-               key,
-                30,
-                headers
+                storage.objectKey(file.getCosKey()),
+                StorageBackend.PresignOptions.download(30, file.getFileName())
         );
     }
 
@@ -184,10 +165,10 @@ public class AssetFileService extends BaseService<AssetFile, Long> {
     public void deleteFiles(List<Long> fileIds) {
         List<AssetFile> files = assetFileRepository.findAllById(fileIds);
 
-        cosService.deleteFiles(files.stream()
-                .map(f -> buildCosUrl(f.getBucketType(), f.getCosKey()))
-                .toList()
-        );
+        files.stream()
+                .collect(Collectors.groupingBy(AssetFile::getBucketType,
+                        Collectors.mapping(f -> storage.objectKey(f.getCosKey()), Collectors.toList())))
+                .forEach(storage::delete);
 
         assetFileRepository.deleteAllInBatch(files);
 
@@ -326,19 +307,6 @@ public class AssetFileService extends BaseService<AssetFile, Long> {
         throw new BusinessException(ResponseStatusEnum.CONCURRENT_MODIFICATION);
     }
 
-    private String extractCosKey(String cosUrl) {
-        // 正确提取完整路径（如 groups/documents/2/20250330/filename.jpg）
-        String prefix = cosService.getBucketDomain(); // 获取存储桶域名部分
-        return cosUrl.replace(prefix, ""); // 移除域名保留完整路径
-    }
-
-    private String buildCosUrl(BucketType bucketType, String cosKey) {
-        return String.format("https://%s.cos.%s.myqcloud.com/%s",
-                cosService.getBucketName(bucketType),
-                cosService.getRegionName(),
-                cosKey);
-    }
-
     private boolean isPreviewSupported(String fileType) {
         return fileType != null &&
                 (fileType.startsWith("image/") || "application/pdf".equals(fileType));
@@ -360,4 +328,12 @@ public class AssetFileService extends BaseService<AssetFile, Long> {
     protected BaseRepository<AssetFile, Long> getRepository() {
         return assetFileRepository;
     }
+
+    /**
+     * 可排序字段：主键与上传时间（idx_asset_file_created_at）
+     */
+    @Override
+    protected Set<String> getSortableFields() {
+        return Set.of("id", "createdAt");
+    }
 }
\ No newline at end of file
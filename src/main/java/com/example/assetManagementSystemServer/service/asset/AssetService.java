@@ -13,6 +13,8 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class AssetService extends BaseService<Asset, Long> {
@@ -23,6 +25,14 @@ public class AssetService extends BaseService<Asset, Long> {
     protected AssetRepository getRepository() {
         return assetRepository;
     }
+
+    /**
+     * 可排序字段：主键
+     */
+    @Override
+    protected Set<String> getSortableFields() {
+        return Set.of("id");
+    }
     public Asset getAssetById(Long id) {
         return assetRepository.findById(id).orElseThrow(() -> new BusinessException(ResponseStatusEnum.ASSET_NOT_FOUND));
     }
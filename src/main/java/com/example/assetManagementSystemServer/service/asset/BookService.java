@@ -3,7 +3,6 @@ package com.example.assetManagementSystemServer.service.asset;
 import com.example.assetManagementSystemServer.base.service.BaseService;
 import com.example.assetManagementSystemServer.entity.asset.Book;
 import com.example.assetManagementSystemServer.entity.asset.UserAsset;
-import com.example.assetManagementSystemServer.entity.user.User;
 import com.example.assetManagementSystemServer.enums.AssetStatus;
 import com.example.assetManagementSystemServer.enums.ResponseStatusEnum;
 import com.example.assetManagementSystemServer.exception.BusinessException;
@@ -13,6 +12,8 @@ import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 
 @Service
 @AllArgsConstructor
@@ -24,6 +25,14 @@ public class BookService extends BaseService<Book, Long> {
     protected BookRepository getRepository() {
         return bookRepository;
     }
+
+    /**
+     * 可排序字段：主键与唯一索引字段
+     */
+    @Override
+    protected Set<String> getSortableFields() {
+        return Set.of("bookId", "isbn");
+    }
     public Book getBookById(Long id){
         return bookRepository.findFirstByBookId(id);
     }
@@ -34,7 +43,6 @@ public class BookService extends BaseService<Book, Long> {
     @Transactional
     public void issueBook(Long id){
         Long currentUserId = userService.getCurrentUserId();
-        User user = userService.getUserById(currentUserId);
         Book books = bookRepository.findByBookId(id);
         if (books.getStockQuantity() == null || books.getStockQuantity() < 1){
             throw new BusinessException(ResponseStatusEnum.INSUFFICIENT_INVENTORY);
@@ -48,7 +56,7 @@ public class BookService extends BaseService<Book, Long> {
         userAsset.setAssetName(books.getTitle());
         userAsset.setQuantity(1);
         userAsset.setUserId(currentUserId);
-        userAsset.setUserName(user.getUserName());
+        userAsset.setUserName(userService.getCurrentUserName());
         userAsset.setStatus("申请中");
         userAssetService.saveUserAsset(userAsset);
     }
@@ -3,7 +3,6 @@ package com.example.assetManagementSystemServer.service.asset;
 import com.example.assetManagementSystemServer.base.service.BaseService;
 import com.example.assetManagementSystemServer.entity.asset.Consumable;
 import com.example.assetManagementSystemServer.entity.asset.UserAsset;
-import com.example.assetManagementSystemServer.entity.user.User;
 import com.example.assetManagementSystemServer.repository.asset.ConsumableRepository;
 import com.example.assetManagementSystemServer.service.user.UserService;
 import jakarta.transaction.Transactional;
@@ -11,6 +10,7 @@ import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 @AllArgsConstructor
@@ -22,10 +22,17 @@ public class ConsumableService extends BaseService<Consumable, Long> {
     protected ConsumableRepository getRepository() {
         return consumableRepository;
     }
+
+    /**
+     * 可排序字段：主键
+     */
+    @Override
+    protected Set<String> getSortableFields() {
+        return Set.of("consumableId");
+    }
     @Transactional
     public void issueConsumable(Long id,int quantity){
         Long currentUserId = userService.getCurrentUserId();
-        User user = userService.getUserById(currentUserId);
         Consumable consumable = consumableRepository.findByConsumableId(id);
         if (consumable.getStockQuantity() == null || consumable.getStockQuantity() < 1){
             throw new RuntimeException("库存不足");
@@ -37,7 +44,7 @@ public class ConsumableService extends BaseService<Consumable, Long> {
         userAsset.setAssetName(consumable.getName());
         userAsset.setQuantity(quantity);
         userAsset.setUserId(currentUserId);
-        userAsset.setUserName(user.getUserName());
+        userAsset.setUserName(userService.getCurrentUserName());
         userAsset.setStatus("申请中");
         userAssetService.saveUserAsset(userAsset);
 
@@ -3,13 +3,14 @@ package com.example.assetManagementSystemServer.service.asset;
 import com.example.assetManagementSystemServer.base.service.BaseService;
 import com.example.assetManagementSystemServer.entity.asset.Equipment;
 import com.example.assetManagementSystemServer.entity.asset.UserAsset;
-import com.example.assetManagementSystemServer.entity.user.User;
 import com.example.assetManagementSystemServer.repository.asset.EquipmentRepository;
 import com.example.assetManagementSystemServer.service.user.UserService;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 @Service
 @AllArgsConstructor
 public class EquipmentService extends BaseService<Equipment, Long> {
@@ -20,16 +21,23 @@ public class EquipmentService extends BaseService<Equipment, Long> {
     protected EquipmentRepository getRepository() {
         return equipmentRepository;
     }
+
+    /**
+     * 可排序字段：主键与唯一索引字段
+     */
+    @Override
+    protected Set<String> getSortableFields() {
+        return Set.of("equipmentId", "serialNumber");
+    }
     @Transactional
     public void issueEquipment(Long id){
         Long currentUserId = userService.getCurrentUserId();
-        User user = userService.getUserById(currentUserId);
         Equipment equipment = equipmentRepository.findByEquipmentId(id);
         if (equipment.getStatus()== null || equipment.getStatus().equals("使用中") || equipment.getStatus().equals("报废")){
             throw new RuntimeException("状态异常");
         }
 
-        if (!userAssetService.findByUserIdAndAssetIdAndAssetType(currentUserId, id,"Equipment").isEmpty()){
+        if (userAssetService.existsByUserIdAndAssetIdAndAssetType(currentUserId, id, "Equipment")){
             throw new RuntimeException("已申请");
         }
         UserAsset userAsset = new UserAsset();
@@ -38,7 +46,7 @@ public class EquipmentService extends BaseService<Equipment, Long> {
         userAsset.setAssetName(equipment.getName());
         userAsset.setQuantity(1);
         userAsset.setUserId(currentUserId);
-        userAsset.setUserName(user.getUserName());
+        userAsset.setUserName(userService.getCurrentUserName());
         userAsset.setStatus("申请中");
         userAssetService.saveUserAsset(userAsset);
     }
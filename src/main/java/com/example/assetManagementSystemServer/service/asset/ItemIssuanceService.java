@@ -1,5 +1,6 @@
 package com.example.assetManagementSystemServer.service.asset;
 
+import com.example.assetManagementSystemServer.base.query.CountStrategy;
 import com.example.assetManagementSystemServer.base.service.BaseService;
 import com.example.assetManagementSystemServer.entity.asset.Item;
 import com.example.assetManagementSystemServer.entity.asset.ItemIssuance;
@@ -17,6 +18,8 @@ import org.springframework.stereotype.Service;
 
 import java.time.Year;
 
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class ItemIssuanceService extends BaseService<ItemIssuance, Long> {
@@ -30,6 +33,22 @@ public class ItemIssuanceService extends BaseService<ItemIssuance, Long> {
         return issuanceRepo;
     }
 
+    /**
+     * 可排序字段：主键与发放时间（idx_item_issuance_issued_at）
+     */
+    @Override
+    protected Set<String> getSortableFields() {
+        return Set.of("id", "issuedAt");
+    }
+
+    /**
+     * 物品领取记录只增不改，总数默认走缓存统计（写入经 save 使缓存失效）
+     */
+    @Override
+    protected CountStrategy getDefaultCountStrategy() {
+        return CountStrategy.CACHED;
+    }
+
     @Transactional
     public ItemIssuance issueItem(ItemIssuance itemIssuance) {
         // 1. 获取物品 与 当前用户
@@ -62,7 +81,7 @@ public class ItemIssuanceService extends BaseService<ItemIssuance, Long> {
         record.setItemId(itemIssuance.getItemId());
         record.setQuantity(itemIssuance.getQuantity());
         record.setIssueYear(currentYear);
-        issuanceRepo.save(record);
+        save(record);
 
         // 6. 更新库存（如果管理库存）
         if (item.getCurrentStock() != null) {
@@ -10,6 +10,8 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 /**
  * 资产项服务类 - 负责资产项的创建、库存调整等业务逻辑
  * 继承自通用基础服务类 BaseService，提供基础的 CRUD 操作
@@ -28,6 +30,14 @@ public class ItemService extends BaseService<Item, Long> {
         return itemRepository;
     }
 
+    /**
+     * 可排序字段：主键与唯一索引字段
+     */
+    @Override
+    protected Set<String> getSortableFields() {
+        return Set.of("id", "name");
+    }
+
     /**
      * 保存资产项（包含库存初始化逻辑）
      * @Transactional 注解保证方法的事务性（原子性操作）
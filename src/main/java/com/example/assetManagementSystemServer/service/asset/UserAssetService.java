@@ -1,6 +1,7 @@
 package com.example.assetManagementSystemServer.service.asset;
 
 import com.example.assetManagementSystemServer.base.repository.BaseRepository;
+import com.example.assetManagementSystemServer.base.query.CountStrategy;
 import com.example.assetManagementSystemServer.base.service.BaseService;
 import com.example.assetManagementSystemServer.entity.asset.Book;
 import com.example.assetManagementSystemServer.entity.asset.Consumable;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @AllArgsConstructor
@@ -30,6 +32,22 @@ public class UserAssetService extends BaseService<UserAsset, Long> {
         return userAssetRepository;
     }
 
+    /**
+     * 可排序字段：主键与申请时间（idx_user_asset_acquired_date）
+     */
+    @Override
+    protected Set<String> getSortableFields() {
+        return Set.of("id", "acquiredDate");
+    }
+
+    /**
+     * 用户资产申请记录表持续增长，总数默认走缓存统计（写入均经 save 使缓存失效）
+     */
+    @Override
+    protected CountStrategy getDefaultCountStrategy() {
+        return CountStrategy.CACHED;
+    }
+
     @Transactional
     public void revertUserAsset(Long id) {
         UserAsset userAsset = userAssetRepository.findFirstById(id);
@@ -38,7 +56,7 @@ public class UserAssetService extends BaseService<UserAsset, Long> {
         if ("申请中".equals(userAsset.getStatus())) {
             userAsset.setStatus("已归还");
             userAsset.setReturnedDate(LocalDateTime.now());
-            userAssetRepository.save(userAsset);
+            save(userAsset);
             return;
         }
 
@@ -68,16 +86,20 @@ public class UserAssetService extends BaseService<UserAsset, Long> {
 
         userAsset.setStatus("已归还");
         userAsset.setReturnedDate(LocalDateTime.now());
-        userAssetRepository.save(userAsset);
+        save(userAsset);
     }
 
     public List<UserAsset> findByUserIdAndAssetIdAndAssetType(Long userId, Long assetId, String assetType) {
         return userAssetRepository.findByUserIdAndAssetIdAndAssetType(userId, assetId, assetType);
     }
 
+    public boolean existsByUserIdAndAssetIdAndAssetType(Long userId, Long assetId, String assetType) {
+        return userAssetRepository.existsByUserAndAsset(userId, assetId, assetType);
+    }
+
     @Transactional
     public void saveUserAsset(UserAsset userAsset) {
-        userAssetRepository.save(userAsset);
+        save(userAsset);
     }
 
     //通过审批
@@ -104,7 +126,7 @@ public class UserAssetService extends BaseService<UserAsset, Long> {
                 consumableRepository.save(consumable);
                 break;
         }
-        userAssetRepository.save(userAsset);
+        save(userAsset);
     }
 
     //不通过审批
@@ -112,7 +134,7 @@ public class UserAssetService extends BaseService<UserAsset, Long> {
     public void FailureToApprove(Long id) {
         UserAsset userAsset = userAssetRepository.findFirstById(id);
         userAsset.setStatus("申请失败");
-        userAssetRepository.save(userAsset);
+        save(userAsset);
     }
 
 
@@ -21,6 +21,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -39,6 +40,14 @@ public class PurchaseOrderService extends BaseService<PurchaseOrder, Long> {
         return purchaseOrderRepository;
     }
 
+    /**
+     * 可排序字段：主键与采购时间（idx_purchase_order_purchase_date）
+     */
+    @Override
+    protected Set<String> getSortableFields() {
+        return Set.of("id", "purchaseDate");
+    }
+
     @Transactional
     public void savePurchaseOrder(PurchaseOrder purchaseOrder) {
         long supplierId = purchaseOrder.getSupplierId();
@@ -1,132 +1,135 @@
 package com.example.assetManagementSystemServer.service.storage;
 
-import com.example.assetManagementSystemServer.config.StoragePathConfig;
 import com.example.assetManagementSystemServer.enums.BucketType;
-import com.example.assetManagementSystemServer.enums.ResponseStatusEnum;
-import com.example.assetManagementSystemServer.exception.BusinessException;
 import com.qcloud.cos.COSClient;
 import com.qcloud.cos.http.HttpMethodName;
 import com.qcloud.cos.model.*;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+
 import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * 腾讯云 COS 存储后端（默认）
+ */
 @Service
 @Getter
-public class CosService {
+@ConditionalOnProperty(name = "storage.type", havingValue = "cos", matchIfMissing = true)
+public class CosService implements StorageBackend {
     private final Map<BucketType, String> bucketMap = new EnumMap<>(BucketType.class);
     private final COSClient cosClient;
     private final String regionName;
-    private final StoragePathConfig pathConfig;
 
     private static final Pattern URL_PATTERN = Pattern.compile(
             "^https://([^.]+)\\.cos\\.([^.]+)\\.myqcloud\\.com/(.*)$"
     );
 
+    /**
+     * 单次列举的最大条数（COS 限制）
+     */
+    private static final int LIST_PAGE_SIZE = 1000;
+
     public CosService(COSClient cosClient,
-                      StoragePathConfig pathConfig,
                       @Value("${cos.bucket.public}") String publicBucket,
                       @Value("${cos.bucket.groups}") String groupsBucket,
                       @Value("${cos.bucket.private}") String privateBucket,
                       @Value("${cos.region}") String regionName) {
         this.cosClient = cosClient;
         this.regionName = regionName;
-        this.pathConfig = pathConfig;
 
         bucketMap.put(BucketType.PUBLIC, publicBucket);
         bucketMap.put(BucketType.GROUPS, groupsBucket);
         bucketMap.put(BucketType.PRIVATE, privateBucket);
     }
 
-    public String uploadFile(BucketType type, String category, MultipartFile file, Long ownerId) {
-        String cosKey = generateCosKey(type, category, file, ownerId);
-        String bucketName = getBucketName(type);
-
-        try {
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(file.getSize());
-            metadata.setContentType(file.getContentType());
-
-            cosClient.putObject(bucketName, cosKey, file.getInputStream(), metadata);
-            return buildObjectUrl(bucketName, cosKey);
-        } catch (IOException e) {
-            throw new BusinessException(ResponseStatusEnum.FILE_UPLOAD_FAILED,
-                    "文件流处理失败: " + e.getMessage());
-        }
+    @Override
+    public void put(BucketType type, String key, ReadableByteChannel content, long size, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(size);
+        metadata.setContentType(contentType);
+        cosClient.putObject(getBucketName(type), key, Channels.newInputStream(content), metadata);
     }
 
-    public String generateDynamicUrl(BucketType type, String cosKey,
-                                     String processParams, int expireMinutes) {
-        Date expiration = new Date(System.currentTimeMillis() + expireMinutes * 60_000L);
-        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(
-                getBucketName(type), cosKey, HttpMethodName.GET
-        ).withExpiration(expiration);
-
-        if (processParams != null) {
-            request.putCustomQueryParameter("imageMogr2", processParams);
+    @Override
+    public long get(BucketType type, String key, WritableByteChannel target) throws IOException {
+        COSObject object = cosClient.getObject(getBucketName(type), key);
+        try (InputStream in = object.getObjectContent();
+             ReadableByteChannel source = Channels.newChannel(in)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            long total = 0;
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    total += target.write(buffer);
+                }
+                buffer.clear();
+            }
+            return total;
         }
-
-        return cosClient.generatePresignedUrl(request).toString();
     }
 
-    public String generateDownloadUrl(BucketType type, String cosKey,
-                                      int expireMinutes,
-                                      ResponseHeaderOverrides headers) {
-        GeneratePresignedUrlRequest request = buildBaseRequest(type, cosKey, expireMinutes);
-        if (headers != null) {
-            request.setResponseHeaders(headers);
+    @Override
+    public void delete(BucketType type, List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
         }
-        return cosClient.generatePresignedUrl(request).toString();
-    }
-    public String getBucketDomain() {
-        return String.format("https://%s.cos.%s.myqcloud.com/",
-                getBucketName(BucketType.GROUPS), regionName);
+        DeleteObjectsRequest request = new DeleteObjectsRequest(getBucketName(type))
+                .withKeys(keys.stream()
+                        .map(this::toDeleteKey)
+                        .toArray(String[]::new));
+        cosClient.deleteObjects(request);
     }
-    public String generateProcessedUrl(BucketType type,
-                                       String cosKey,
-                                       String processParams,
-                                       int expireMinutes,
-                                       ResponseHeaderOverrides headers) {
-        GeneratePresignedUrlRequest request = buildBaseRequest(type, cosKey, expireMinutes);
-        if (processParams != null) {
-            request.putCustomQueryParameter("imageMogr2", processParams);
+
+    @Override
+    public String presign(BucketType type, String key, PresignOptions options) {
+        GeneratePresignedUrlRequest request = buildBaseRequest(type, key, options.expireMinutes());
+        if (options.processParams() != null) {
+            request.putCustomQueryParameter("imageMogr2", options.processParams());
         }
-        if (headers != null) {
+        if (options.downloadName() != null) {
+            ResponseHeaderOverrides headers = new ResponseHeaderOverrides();
+            headers.setContentDisposition("attachment; filename=\"" + options.downloadName() + "\"");
             request.setResponseHeaders(headers);
         }
         return cosClient.generatePresignedUrl(request).toString();
     }
 
-    //------------------------ 核心工具方法 ------------------------//
-    private String generateCosKey(BucketType type, String category,
-                                  MultipartFile file, Long ownerId) {
-        String sanitized = sanitizeFilename(Objects.requireNonNull(file.getOriginalFilename()));
-        String encodedFilename = encodeUriComponent(sanitized);
-
-        return pathConfig.getTemplate(type)
-                .replace("{category}", category)
-                .replace("{ownerId}", ownerId.toString())
-                .replace("{date}", LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE))
-                .replace("{uuid}", UUID.randomUUID().toString().replace("-", ""))
-                .replace("{filename}", encodedFilename)
-                .replace("//", "/");
+    @Override
+    public List<String> list(BucketType type, String prefix, int maxKeys) {
+        List<String> keys = new ArrayList<>();
+        ListObjectsRequest request = new ListObjectsRequest();
+        request.setBucketName(getBucketName(type));
+        request.setPrefix(prefix);
+        ObjectListing listing;
+        do {
+            request.setMaxKeys(Math.min(LIST_PAGE_SIZE, maxKeys - keys.size()));
+            listing = cosClient.listObjects(request);
+            listing.getObjectSummaries().forEach(summary -> keys.add(summary.getKey()));
+            request.setMarker(listing.getNextMarker());
+        } while (listing.isTruncated() && keys.size() < maxKeys);
+        return keys;
     }
 
-    private String encodeUriComponent(String component) {
-        String onceEncoded = URLEncoder.encode(component, StandardCharsets.UTF_8)
-                .replace("+", "%20");
-        return onceEncoded.replace("%", "%25");
+    /**
+     * 旧数据保存的是完整对象 URL，取其中的 key 部分
+     */
+    @Override
+    public String objectKey(String stored) {
+        Matcher matcher = URL_PATTERN.matcher(stored);
+        return matcher.find() ? matcher.group(3) : stored;
     }
 
+    //------------------------ 核心工具方法 ------------------------//
     private GeneratePresignedUrlRequest buildBaseRequest(BucketType type,
                                                          String cosKey,
                                                          int expireMinutes) {
@@ -136,47 +139,6 @@ public class CosService {
         ).withExpiration(expiration);
     }
 
-    private String sanitizeFilename(String filename) {
-        return Optional.ofNullable(filename)
-                .orElse("unnamed")
-                .replaceAll("[\\\\/:*?\"<>|$%]", "_")
-                .replace(" ", "_")
-                .trim()
-                .toLowerCase();
-    }
-
-    //------------------------ 辅助方法 ------------------------//
-    public void deleteFiles(List<String> urls) {
-        Map<String, List<String>> bucketKeys = new HashMap<>();
-        urls.forEach(url -> {
-            BucketUrlInfo info = parseCosUrl(url);
-            bucketKeys.computeIfAbsent(info.bucketName, k -> new ArrayList<>())
-                    .add(info.cosKey);
-        });
-
-        bucketKeys.forEach((bucket, keys) -> {
-            DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
-                    .withKeys(keys.stream()
-                            .map(this::toDeleteKey)
-                            .toArray(String[]::new));
-            cosClient.deleteObjects(request);
-        });
-    }
-
-    private String buildObjectUrl(String bucketName, String cosKey) {
-        return String.format("https://%s.cos.%s.myqcloud.com/%s",
-                bucketName, regionName, cosKey);
-    }
-
-    private BucketUrlInfo parseCosUrl(String url) {
-        Matcher matcher = URL_PATTERN.matcher(url);
-        if (!matcher.find()) {
-            throw new BusinessException(ResponseStatusEnum.INVALID_COS_URL,
-                    "非法的COS URL格式: " + url);
-        }
-        return new BucketUrlInfo(matcher.group(1), matcher.group(3));
-    }
-
     public String getBucketName(BucketType type) {
         return bucketMap.get(type);
     }
@@ -184,8 +146,4 @@ public class CosService {
     private String toDeleteKey(String key) {
         return new DeleteObjectsRequest.KeyVersion(key).getKey();
     }
-
-    // ====================== 内部记录类 ====================== //
-
-    private record BucketUrlInfo(String bucketName, String cosKey) {}
-}
\ No newline at end of file
+}
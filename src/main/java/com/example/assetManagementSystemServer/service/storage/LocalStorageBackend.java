@@ -0,0 +1,238 @@
+package com.example.assetManagementSystemServer.service.storage;
+
+import com.example.assetManagementSystemServer.enums.BucketType;
+import com.example.assetManagementSystemServer.enums.ResponseStatusEnum;
+import com.example.assetManagementSystemServer.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 本地文件系统存储后端（storage.type=local）
+ * 用于私有化部署、离线测试与基准测试。读写基于 FileChannel 的 transferFrom/transferTo，
+ * 源或目标为文件/套接字通道时由内核直接拷贝；限时访问地址由 HMAC-SHA256 签名，
+ * 由 {@code StorageController} 校验后返回文件内容
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageBackend implements StorageBackend {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    /**
+     * 上传临时文件名前缀
+     */
+    private static final String TEMP_PREFIX = ".upload-";
+
+    /**
+     * 访问地址路径
+     */
+    public static final String URL_PATH = "/storage/";
+
+    private final Path root;
+    private final String baseUrl;
+    private final byte[] secret;
+
+    public LocalStorageBackend(@Value("${storage.local.root:./storage}") String root,
+                               @Value("${storage.local.base-url:}") String baseUrl,
+                               @Value("${storage.local.secret}") String secret) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        for (BucketType type : BucketType.values()) {
+            Files.createDirectories(bucketRoot(type));
+        }
+    }
+
+    @Override
+    public void put(BucketType type, String key, ReadableByteChannel content, long size, String contentType) throws IOException {
+        Path target = resolve(type, key);
+        Files.createDirectories(target.getParent());
+        // 先写临时文件再原子替换，读者不会看到写了一半的对象
+        Path temp = Files.createTempFile(target.getParent(), TEMP_PREFIX, ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long position = 0;
+                while (position < size) {
+                    long transferred = out.transferFrom(content, position, size - position);
+                    if (transferred <= 0) {
+                        throw new IOException("文件内容不完整: 预期 " + size + " 字节，实际 " + position + " 字节");
+                    }
+                    position += transferred;
+                }
+                out.force(false);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public long get(BucketType type, String key, WritableByteChannel target) throws IOException {
+        Path source = resolve(type, key);
+        if (!Files.isRegularFile(source)) {
+            throw new BusinessException(ResponseStatusEnum.FILE_NOT_FOUND);
+        }
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, target);
+            }
+            return size;
+        }
+    }
+
+    @Override
+    public void delete(BucketType type, List<String> keys) {
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(type, key));
+            } catch (IOException e) {
+                throw new BusinessException(ResponseStatusEnum.FILE_DELETE_FAILED,
+                        "文件删除失败: " + key);
+            }
+        }
+    }
+
+    @Override
+    public String presign(BucketType type, String key, PresignOptions options) {
+        long expires = System.currentTimeMillis() / 1000 + options.expireMinutes() * 60L;
+        String download = options.downloadName() == null ? "" : options.downloadName();
+        StringBuilder url = new StringBuilder(baseUrl)
+                .append(URL_PATH).append(bucketName(type))
+                .append("?key=").append(encode(key))
+                .append("&expires=").append(expires);
+        if (!download.isEmpty()) {
+            url.append("&download=").append(encode(download));
+        }
+        return url.append("&sig=").append(sign(type, key, expires, download)).toString();
+    }
+
+    @Override
+    public List<String> list(BucketType type, String prefix, int maxKeys) {
+        Path bucket = bucketRoot(type);
+        String normalizedPrefix = prefix == null ? "" : prefix;
+        try (Stream<Path> paths = Files.walk(bucket)) {
+            List<String> keys = new ArrayList<>();
+            paths.filter(Files::isRegularFile)
+                    // 排除正在写入的临时文件（位于对象所在目录，可能就是桶根目录）
+                    .filter(path -> !path.getFileName().toString().startsWith(TEMP_PREFIX))
+                    .map(path -> bucket.relativize(path).toString().replace('\\', '/'))
+                    .filter(key -> key.startsWith(normalizedPrefix))
+                    .sorted()
+                    .limit(maxKeys)
+                    .forEach(keys::add);
+            return keys;
+        } catch (IOException e) {
+            throw new IllegalStateException("列举文件失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 旧数据可能保存的是 COS 完整 URL，取域名之后的部分
+     */
+    @Override
+    public String objectKey(String stored) {
+        if (stored.startsWith("http://") || stored.startsWith("https://")) {
+            int pathStart = stored.indexOf('/', stored.indexOf("://") + 3);
+            return pathStart < 0 ? "" : stored.substring(pathStart + 1);
+        }
+        return stored;
+    }
+
+    /**
+     * 对象是否存在
+     * @param type 存储桶类型
+     * @param key  对象 key
+     * @return 是否为已存在的文件
+     */
+    public boolean exists(BucketType type, String key) {
+        return Files.isRegularFile(resolve(type, key));
+    }
+
+    /**
+     * 校验访问地址签名
+     * @param type     存储桶类型
+     * @param key      对象 key
+     * @param expires  过期时间（秒级时间戳）
+     * @param download 下载文件名（内联预览时为空）
+     * @param sig      签名
+     * @return 签名有效且未过期
+     */
+    public boolean verify(BucketType type, String key, long expires, String download, String sig) {
+        if (expires < System.currentTimeMillis() / 1000 || sig == null) {
+            return false;
+        }
+        byte[] expected = sign(type, key, expires, download == null ? "" : download).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, sig.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 按访问地址中的桶名解析存储桶类型
+     * @param bucket 桶名
+     * @return 存储桶类型
+     */
+    public BucketType bucketType(String bucket) {
+        try {
+            return BucketType.valueOf(bucket.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ResponseStatusEnum.INVALID_BUCKET_TYPE);
+        }
+    }
+
+    private String sign(BucketType type, String key, long expires, String download) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+            String payload = bucketName(type) + "\n" + key + "\n" + expires + "\n" + download;
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 解析对象路径，拒绝越出存储桶目录的 key
+     */
+    private Path resolve(BucketType type, String key) {
+        Path bucket = bucketRoot(type);
+        Path path = bucket.resolve(key).normalize();
+        if (!path.startsWith(bucket) || path.equals(bucket)) {
+            throw new BusinessException(ResponseStatusEnum.INVALID_FILE, "非法的文件路径: " + key);
+        }
+        return path;
+    }
+
+    private Path bucketRoot(BucketType type) {
+        return root.resolve(bucketName(type));
+    }
+
+    private static String bucketName(BucketType type) {
+        return type.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.assetManagementSystemServer.service.storage;
+
+import com.example.assetManagementSystemServer.enums.BucketType;
+import com.example.assetManagementSystemServer.enums.ResponseStatusEnum;
+import com.example.assetManagementSystemServer.exception.BusinessException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+/**
+ * 对象存储后端
+ * 按存储桶类型（公开/群组/私有）存取对象；对象以 key 标识，业务表中保存 key（历史数据可能保存完整 URL，
+ * 读取时统一经 {@link #objectKey(String)} 归一化）。
+ * 通过 storage.type 选择实现：cos（默认，腾讯云 COS）或 local（本地文件系统）
+ */
+public interface StorageBackend {
+
+    /**
+     * 写入对象
+     * @param type        存储桶类型
+     * @param key         对象 key
+     * @param content     对象内容
+     * @param size        内容长度（字节）
+     * @param contentType 内容类型
+     * @throws IOException 读取内容或写入失败
+     */
+    void put(BucketType type, String key, ReadableByteChannel content, long size, String contentType) throws IOException;
+
+    /**
+     * 读取对象并写入目标通道
+     * @param type   存储桶类型
+     * @param key    对象 key
+     * @param target 目标通道
+     * @return 写入的字节数
+     * @throws IOException 对象不存在或读取失败
+     */
+    long get(BucketType type, String key, WritableByteChannel target) throws IOException;
+
+    /**
+     * 批量删除对象（不存在的对象忽略）
+     * @param type 存储桶类型
+     * @param keys 对象 key 列表
+     */
+    void delete(BucketType type, List<String> keys);
+
+    /**
+     * 生成限时访问地址
+     * @param type    存储桶类型
+     * @param key     对象 key
+     * @param options 有效期、图片处理参数、下载文件名
+     * @return 带签名的访问地址
+     */
+    String presign(BucketType type, String key, PresignOptions options);
+
+    /**
+     * 按前缀列出对象 key（按字典序）
+     * @param type    存储桶类型
+     * @param prefix  key 前缀（为空表示全部）
+     * @param maxKeys 最多返回条数
+     * @return 对象 key 列表
+     */
+    List<String> list(BucketType type, String prefix, int maxKeys);
+
+    /**
+     * 将业务表中保存的值（key 或旧版完整 URL）归一化为对象 key
+     * @param stored 保存的值
+     * @return 对象 key
+     */
+    String objectKey(String stored);
+
+    /**
+     * 上传表单文件
+     * @param type 存储桶类型
+     * @param key  对象 key
+     * @param file 上传的文件
+     * @return 对象 key
+     */
+    default String upload(BucketType type, String key, MultipartFile file) {
+        try (ReadableByteChannel content = Channels.newChannel(file.getInputStream())) {
+            put(type, key, content, file.getSize(), file.getContentType());
+            return key;
+        } catch (IOException e) {
+            throw new BusinessException(ResponseStatusEnum.FILE_UPLOAD_FAILED,
+                    "文件流处理失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 访问地址选项
+     * @param expireMinutes 有效期（分钟）
+     * @param processParams 图片处理参数（仅 COS 支持，本地存储忽略）
+     * @param downloadName  作为附件下载时的文件名（null 表示内联预览）
+     */
+    record PresignOptions(int expireMinutes, String processParams, String downloadName) {
+
+        public static PresignOptions inline(int expireMinutes) {
+            return new PresignOptions(expireMinutes, null, null);
+        }
+
+        public static PresignOptions processed(int expireMinutes, String processParams) {
+            return new PresignOptions(expireMinutes, processParams, null);
+        }
+
+        public static PresignOptions download(int expireMinutes, String downloadName) {
+            return new PresignOptions(expireMinutes, null, downloadName);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.assetManagementSystemServer.service.storage;
+
+import com.example.assetManagementSystemServer.config.StoragePathConfig;
+import com.example.assetManagementSystemServer.enums.BucketType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 对象 key 生成
+ * 按存储桶类型的路径模板生成 key，与具体存储后端无关
+ */
+@Component
+@RequiredArgsConstructor
+public class StoragePaths {
+
+    private final StoragePathConfig pathConfig;
+
+    /**
+     * 生成对象 key
+     * @param type             存储桶类型
+     * @param category         文件类别（如 avatar、documents）
+     * @param originalFilename 原始文件名
+     * @param ownerId          归属ID
+     * @return 对象 key
+     */
+    public String generateKey(BucketType type, String category, String originalFilename, Long ownerId) {
+        String encodedFilename = encodeUriComponent(sanitizeFilename(originalFilename));
+
+        return pathConfig.getTemplate(type)
+                .replace("{category}", category)
+                .replace("{ownerId}", ownerId.toString())
+                .replace("{date}", LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE))
+                .replace("{uuid}", UUID.randomUUID().toString().replace("-", ""))
+                .replace("{filename}", encodedFilename)
+                .replace("//", "/");
+    }
+
+    private String encodeUriComponent(String component) {
+        String onceEncoded = URLEncoder.encode(component, StandardCharsets.UTF_8)
+                .replace("+", "%20");
+        return onceEncoded.replace("%", "%25");
+    }
+
+    private String sanitizeFilename(String filename) {
+        return Optional.ofNullable(filename)
+                .orElse("unnamed")
+                .replaceAll("[\\\\/:*?\"<>|$%]", "_")
+                .replace(" ", "_")
+                .trim()
+                .toLowerCase();
+    }
+}
@@ -11,6 +11,10 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -22,6 +26,27 @@ public class SupplierService extends BaseService<Supplier, Long> {
         return supplierRepository;
     }
 
+    /**
+     * 可排序字段：主键与唯一约束字段
+     */
+    @Override
+    protected Set<String> getSortableFields() {
+        return Set.of("id", "name", "taxNumber");
+    }
+
+    /**
+     * 供应商的更新回调仅维护修改时间，已在 beforeBulkUpdate 中补齐，批量更新可走单条 UPDATE
+     */
+    @Override
+    protected boolean requiresEntityCallbacks() {
+        return false;
+    }
+
+    @Override
+    protected void beforeBulkUpdate(Map<String, Object> values) {
+        values.put("updatedAt", LocalDateTime.now());
+    }
+
     @Transactional
     public Supplier updateSupplier(Supplier supplier) {
 
@@ -0,0 +1,158 @@
+package com.example.assetManagementSystemServer.service.user;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 用户组成员数计数器
+ * 成员增删在事务提交后把增量累加到按组划分的 LongAdder（分段计数，无锁竞争），
+ * 定时批量写回 user_group.member_count，避免并发加入同一大组时在同一行上排队；
+ * 另定时按主键分段用 user_group_relation 重新统计，校正累积误差。
+ * 写回前 member_count 最多滞后一个刷新周期。
+ * 校正时丢弃本实例本段尚未写回的增量（增量在事务提交后才登记，对应的行已计入重新统计）；
+ * 在某段重新统计语句执行期间提交的成员变更可能被重复计入，每次校正每组最多偏差这一瞬间的并发变更数。
+ * <p>
+ * 校正按单实例设计：多实例部署时，其他实例在重新统计时尚未写回的增量（至多一个刷新周期内的变更）
+ * 会在其写回后再次计入，偏差持续到下一次校正；需要精确计数时应单实例部署。
+ * 应用正常关闭时会写回剩余增量，进程异常退出时最多丢失一个刷新周期内的增量，由下一次校正修复
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupMemberCounter {
+
+    private static final String FLUSH_SQL =
+            "UPDATE user_group SET member_count = member_count + ? WHERE id = ?";
+
+    private static final String RECONCILE_SQL =
+            "UPDATE user_group g SET member_count = " +
+                    "(SELECT COUNT(*) FROM user_group_relation r WHERE r.group_id = g.id) " +
+                    "WHERE g.id > ? AND g.id <= ?";
+
+    private static final String GROUP_ID_BOUND_SQL =
+            "SELECT MAX(id) FROM (SELECT id FROM user_group WHERE id > ? ORDER BY id LIMIT ?) t";
+
+    /**
+     * 校正时每段处理的用户组数
+     */
+    private static final int RECONCILE_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    /**
+     * 登记成员数变化（当前事务提交后生效，回滚时丢弃）
+     * @param groupId 用户组ID
+     * @param delta   变化量
+     */
+    public void add(Long groupId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accumulate(groupId, delta);
+                }
+            });
+        } else {
+            accumulate(groupId, delta);
+        }
+    }
+
+    /**
+     * 批量写回累积的增量
+     */
+    @Scheduled(fixedDelayString = "${group.member-count.flush-interval:1000}")
+    public synchronized void flush() {
+        List<Long> groupIds = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+        deltas.forEach((groupId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                groupIds.add(groupId);
+                args.add(new Object[]{delta, groupId});
+            }
+        });
+        if (args.isEmpty()) {
+            return;
+        }
+
+        int[] updated;
+        try {
+            updated = jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+        } catch (RuntimeException e) {
+            // 写回失败时把增量放回，下次重试
+            for (Object[] arg : args) {
+                accumulate((Long) arg[1], (Long) arg[0]);
+            }
+            log.warn("成员数写回失败: {}", e.getMessage());
+            return;
+        }
+        // 用户组已删除时不再保留其计数器
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                deltas.remove(groupIds.get(i));
+            }
+        }
+    }
+
+    /**
+     * 关闭前写回剩余增量
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 按主键分段重新统计成员数
+     */
+    @Scheduled(fixedDelayString = "${group.member-count.reconcile-interval:3600000}",
+            initialDelayString = "${group.member-count.reconcile-interval:3600000}")
+    public void reconcile() {
+        long after = 0;
+        int corrected = 0;
+        while (true) {
+            Long bound = jdbcTemplate.queryForObject(GROUP_ID_BOUND_SQL, Long.class, after, RECONCILE_CHUNK);
+            if (bound == null) {
+                break;
+            }
+            synchronized (this) {
+                discardPending(after, bound);
+                corrected += jdbcTemplate.update(RECONCILE_SQL, after, bound);
+            }
+            after = bound;
+        }
+        log.debug("用户组成员数校正完成: {} 个用户组", corrected);
+    }
+
+    /**
+     * 丢弃 (after, bound] 内用户组尚未写回的增量：这些变更已提交，会被随后的重新统计计入
+     */
+    private void discardPending(long after, long bound) {
+        deltas.forEach((groupId, adder) -> {
+            if (groupId > after && groupId <= bound) {
+                adder.sumThenReset();
+            }
+        });
+    }
+
+    private void accumulate(Long groupId, long delta) {
+        deltas.computeIfAbsent(groupId, key -> new LongAdder()).add(delta);
+    }
+}
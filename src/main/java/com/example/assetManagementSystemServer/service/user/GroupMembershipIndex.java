@@ -0,0 +1,159 @@
+package com.example.assetManagementSystemServer.service.user;
+
+import com.example.assetManagementSystemServer.entity.user.UserGroupRelationId;
+import com.example.assetManagementSystemServer.repository.user.UserGroupRelationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 用户组成员关系索引
+ * 按用户缓存其所属组ID的有序数组，成员判断为内存二分查找；首次访问时从库加载。
+ * 成员增删与删组在事务提交后同步到已加载的条目（增量更新，幂等）。
+ * 其他实例的写入只能靠过期时间兜底：用户在某实例上被移出组后，其他实例最长仍会在 30 秒内按旧成员关系放行，
+ * 与 {@link SecurityVersionService} 的撤销窗口一致
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupMembershipIndex {
+
+    /**
+     * 最大缓存用户数
+     */
+    private static final int MAX_SIZE = 50_000;
+
+    /**
+     * 缓存有效期，即跨实例的权限撤销窗口（userGroupsCache 使用同一窗口）
+     */
+    public static final Duration TTL = Duration.ofSeconds(30);
+
+    private static final long[] EMPTY = new long[0];
+
+    private final UserGroupRelationRepository relationRepository;
+
+    private final Cache<Long, long[]> groupsByUser = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(TTL)
+            .recordStats()
+            .build();
+
+    /**
+     * 用户是否在组中
+     * @param userId  用户ID
+     * @param groupId 用户组ID
+     * @return 是否为组成员
+     */
+    public boolean isMember(Long userId, Long groupId) {
+        return userId != null && groupId != null
+                && Arrays.binarySearch(groupIds(userId), groupId) >= 0;
+    }
+
+    /**
+     * 获取用户所属的组ID（升序，调用方不得修改）
+     * @param userId 用户ID
+     * @return 组ID数组
+     */
+    public long[] groupIds(Long userId) {
+        return groupsByUser.get(userId, this::load);
+    }
+
+    /**
+     * 登记新增的成员关系
+     * @param groupId 用户组ID
+     * @param userIds 新增的成员
+     */
+    public void added(Long groupId, Collection<Long> userIds) {
+        afterCommit(() -> userIds.forEach(userId ->
+                groupsByUser.asMap().computeIfPresent(userId, (key, groups) -> insert(groups, groupId))));
+    }
+
+    /**
+     * 登记移除的成员关系
+     * @param groupId 用户组ID
+     * @param userIds 移除的成员
+     */
+    public void removed(Long groupId, Collection<Long> userIds) {
+        afterCommit(() -> userIds.forEach(userId ->
+                groupsByUser.asMap().computeIfPresent(userId, (key, groups) -> remove(groups, groupId))));
+    }
+
+    /**
+     * 登记删除的用户组（从所有已加载的条目中移除）
+     * @param groupId 用户组ID
+     */
+    public void groupDeleted(Long groupId) {
+        afterCommit(() -> groupsByUser.asMap().replaceAll((key, groups) -> remove(groups, groupId)));
+    }
+
+    /**
+     * 用户ID -> 组ID 缓存（供指标统计）
+     */
+    public Cache<Long, long[]> groupsByUser() {
+        return groupsByUser;
+    }
+
+    private long[] load(Long userId) {
+        long[] groups = relationRepository.findGroupIdsByUserId(userId).stream()
+                .mapToLong(UserGroupRelationId::getGroupId)
+                .sorted()
+                .distinct()
+                .toArray();
+        return groups.length == 0 ? EMPTY : groups;
+    }
+
+    /**
+     * 有序插入（写时复制，已存在时原样返回）
+     */
+    private static long[] insert(long[] groups, long groupId) {
+        int index = Arrays.binarySearch(groups, groupId);
+        if (index >= 0) {
+            return groups;
+        }
+        int at = -index - 1;
+        long[] result = new long[groups.length + 1];
+        System.arraycopy(groups, 0, result, 0, at);
+        result[at] = groupId;
+        System.arraycopy(groups, at, result, at + 1, groups.length - at);
+        return result;
+    }
+
+    /**
+     * 有序删除（写时复制，不存在时原样返回）
+     */
+    private static long[] remove(long[] groups, long groupId) {
+        int index = Arrays.binarySearch(groups, groupId);
+        if (index < 0) {
+            return groups;
+        }
+        if (groups.length == 1) {
+            return EMPTY;
+        }
+        long[] result = new long[groups.length - 1];
+        System.arraycopy(groups, 0, result, 0, index);
+        System.arraycopy(groups, index + 1, result, index, groups.length - index - 1);
+        return result;
+    }
+
+    /**
+     * 在当前事务提交后执行（回滚时不生效）；无事务时立即执行
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.assetManagementSystemServer.service.user;
+
+import com.example.assetManagementSystemServer.dto.TokenDTO;
+import com.example.assetManagementSystemServer.entity.user.RefreshToken;
+import com.example.assetManagementSystemServer.entity.user.User;
+import com.example.assetManagementSystemServer.enums.ResponseStatusEnum;
+import com.example.assetManagementSystemServer.exception.BusinessException;
+import com.example.assetManagementSystemServer.repository.user.RefreshTokenRepository;
+import com.example.assetManagementSystemServer.util.JwtUtil;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * 刷新令牌服务
+ * 访问令牌短时有效，过期后凭刷新令牌换取新令牌对，无需再次校验密码（BCrypt）；
+ * 刷新令牌仅存摘要，每次使用后轮换，用户安全版本号变更后全部失效
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    /**
+     * 刷新令牌随机字节数
+     */
+    private static final int TOKEN_BYTES = 32;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserCache userCache;
+    private final JwtUtil jwtUtil;
+
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private long refreshExpiration; // 刷新令牌有效期（毫秒），默认 14 天
+
+    /**
+     * 为已通过密码校验的用户签发令牌对
+     * @param user 用户
+     * @return 访问令牌与刷新令牌
+     */
+    @Transactional
+    public TokenDTO issue(User user) {
+        refreshTokenRepository.deleteExpiredByUserId(user.getId(), LocalDateTime.now());
+        return new TokenDTO(generateAccessToken(user), createRefreshToken(user), jwtUtil.getExpiration());
+    }
+
+    /**
+     * 使用刷新令牌换取新的令牌对（旧刷新令牌立即作废；已用过的令牌、版本号已变更或账号已禁用时拒绝）
+     * @param rawToken 刷新令牌
+     * @return 新的访问令牌与刷新令牌
+     */
+    @Transactional
+    public TokenDTO refresh(String rawToken) {
+        String tokenHash = hash(rawToken);
+        RefreshToken token = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new BusinessException(ResponseStatusEnum.INVALID_REFRESH_TOKEN));
+        // 删除失败说明已被并发请求消费，按无效处理
+        if (refreshTokenRepository.deleteByTokenHash(tokenHash) == 0
+                || token.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new BusinessException(ResponseStatusEnum.INVALID_REFRESH_TOKEN);
+        }
+        User user = userCache.findById(token.getUserId())
+                .filter(u -> u.getSecurityVersion() == token.getSecurityVersion())
+                .filter(User::isStatus)
+                .orElseThrow(() -> new BusinessException(ResponseStatusEnum.INVALID_REFRESH_TOKEN));
+        return new TokenDTO(generateAccessToken(user), createRefreshToken(user), jwtUtil.getExpiration());
+    }
+
+    /**
+     * 注销刷新令牌
+     * @param rawToken 刷新令牌
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.deleteByTokenHash(hash(rawToken));
+    }
+
+    /**
+     * 注销用户的全部刷新令牌
+     * @param userIds 用户ID
+     */
+    @Transactional
+    public void revokeAll(Collection<Long> userIds) {
+        refreshTokenRepository.deleteByUserIds(userIds);
+    }
+
+    private String generateAccessToken(User user) {
+        return jwtUtil.generateToken(user.getUserName(), user.getId(), user.isStatus(),
+                AuthorityUtils.createAuthorityList(user.getRole().getDescription()), user.getSecurityVersion());
+    }
+
+    private String createRefreshToken(User user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = new RefreshToken();
+        token.setUserId(user.getId());
+        token.setTokenHash(hash(rawToken));
+        token.setSecurityVersion(user.getSecurityVersion());
+        token.setExpiresAt(LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000L));
+        refreshTokenRepository.save(token);
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
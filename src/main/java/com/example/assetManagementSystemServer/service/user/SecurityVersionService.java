@@ -0,0 +1,75 @@
+package com.example.assetManagementSystemServer.service.user;
+
+import com.example.assetManagementSystemServer.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 用户安全版本号服务
+ * 无状态认证时用令牌中的版本号与当前版本比对，取代每个请求加载完整用户；
+ * 版本号短时缓存，本实例内的变更立即失效，其他实例最迟在 TTL 后生效
+ */
+@Service
+@RequiredArgsConstructor
+public class SecurityVersionService {
+
+    /**
+     * 缓存有效期（毫秒）
+     */
+    private static final long TTL_MILLIS = 30_000L;
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, Entry> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 令牌中的版本号是否仍为当前版本
+     * @param userId  用户ID
+     * @param version 令牌中的版本号
+     * @return 用户存在且版本一致时返回 true
+     */
+    public boolean isCurrent(Long userId, long version) {
+        Long current = currentVersion(userId);
+        return current != null && current == version;
+    }
+
+    /**
+     * 使指定用户的版本号缓存失效（在修改版本号的事务提交后再失效一次）
+     * @param userIds 用户ID
+     */
+    public void evict(Collection<Long> userIds) {
+        userIds.forEach(versions::remove);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userIds.forEach(versions::remove);
+                }
+            });
+        }
+    }
+
+    private Long currentVersion(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = versions.get(userId);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.version;
+        }
+        Long version = userRepository.findSecurityVersionById(userId).orElse(null);
+        if (version == null) {
+            versions.remove(userId);
+        } else {
+            versions.put(userId, new Entry(version, now + TTL_MILLIS));
+        }
+        return version;
+    }
+
+    private record Entry(long version, long expiresAt) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.assetManagementSystemServer.service.user;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.assetManagementSystemServer.base.security.BloomFilter;
+import com.example.assetManagementSystemServer.entity.user.RevokedToken;
+import com.example.assetManagementSystemServer.repository.user.RevokedTokenRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 访问令牌吊销服务
+ * 吊销的令牌ID（jti）持久化到 revoked_token 表，并同步到内存集合；
+ * 集合前置布隆过滤器，未吊销令牌（绝大多数请求）只需几次位运算即可放行。
+ * 本实例吊销立即生效，其他实例在下一次增量同步后生效
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    /**
+     * 布隆过滤器误判率
+     */
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    /**
+     * 增量同步的回看窗口（秒），容忍实例间时钟偏差与事务提交延迟
+     */
+    private static final long SYNC_OVERLAP_SECONDS = 60;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.revocation.expected-size:100000}")
+    private int expectedSize; // 布隆过滤器预计容量
+
+    private volatile Snapshot snapshot = new Snapshot(new BloomFilter(1, FALSE_POSITIVE_RATE), ConcurrentHashMap.newKeySet());
+
+    private LocalDateTime lastSync;
+
+    /**
+     * 令牌是否已吊销
+     * @param jti 令牌ID（旧令牌无 jti 时视为未吊销）
+     * @return 是否已吊销
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        return current.bloom.mightContain(jti) && current.revoked.contains(jti);
+    }
+
+    /**
+     * 吊销令牌（保留到令牌原过期时间）
+     * @param jwt 已验签的令牌
+     */
+    @Transactional
+    public void revoke(DecodedJWT jwt) {
+        if (jwt.getId() == null || jwt.getExpiresAt() == null) {
+            return;
+        }
+        RevokedToken token = new RevokedToken();
+        token.setJti(jwt.getId());
+        token.setExpiresAt(LocalDateTime.ofInstant(jwt.getExpiresAt().toInstant(), ZoneId.systemDefault()));
+        revokedTokenRepository.save(token);
+        add(List.of(jwt.getId()));
+    }
+
+    /**
+     * 增量同步其他实例的吊销记录
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:5000}", initialDelayString = "${jwt.revocation.sync-interval:5000}")
+    public void sync() {
+        LocalDateTime since = lastSync;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        add(revokedTokenRepository.findActiveJtisRevokedSince(since.minusSeconds(SYNC_OVERLAP_SECONDS), now));
+        lastSync = now;
+    }
+
+    /**
+     * 清理过期记录并重建内存集合（启动时立即执行一次）
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:600000}")
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.deleteExpired(now);
+        List<String> jtis = revokedTokenRepository.findActiveJtisRevokedSince(LocalDateTime.of(1970, 1, 1, 0, 0), now);
+
+        BloomFilter bloom = new BloomFilter(Math.max(expectedSize, jtis.size() * 2), FALSE_POSITIVE_RATE);
+        Set<String> revoked = ConcurrentHashMap.newKeySet(jtis.size());
+        jtis.forEach(bloom::put);
+        revoked.addAll(jtis);
+        synchronized (this) {
+            snapshot = new Snapshot(bloom, revoked);
+            if (lastSync == null) {
+                lastSync = now;
+            }
+        }
+        log.debug("令牌吊销列表已重建: {} 条", jtis.size());
+    }
+
+    /**
+     * 加入内存集合：先写集合再写布隆过滤器，保证布隆命中时集合中一定可见
+     */
+    private synchronized void add(List<String> jtis) {
+        Snapshot current = snapshot;
+        for (String jti : jtis) {
+            current.revoked.add(jti);
+            current.bloom.put(jti);
+        }
+    }
+
+    private record Snapshot(BloomFilter bloom, Set<String> revoked) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.assetManagementSystemServer.service.user;
+
+import com.example.assetManagementSystemServer.entity.user.User;
+import com.example.assetManagementSystemServer.repository.user.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 用户缓存
+ * 按ID缓存用户记录，按用户名缓存用户ID；用户写入时由 UserService 主动失效，另设过期时间兜底。
+ * 缓存中的实体为游离对象且跨线程共享，调用方只读，需要修改时应从仓库重新加载
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCache {
+
+    /**
+     * 最大缓存用户数
+     */
+    private static final int MAX_SIZE = 10_000;
+
+    /**
+     * 缓存有效期
+     */
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final UserRepository userRepository;
+
+    private final Cache<Long, User> usersById = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(TTL)
+            .recordStats()
+            .build();
+
+    private final Cache<String, Long> idsByUserName = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(TTL)
+            .recordStats()
+            .build();
+
+    /**
+     * 按ID获取用户
+     */
+    public Optional<User> findById(Long id) {
+        return Optional.ofNullable(usersById.get(id, key -> userRepository.findById(key).orElse(null)));
+    }
+
+    /**
+     * 按用户名获取用户
+     */
+    public Optional<User> findByUserName(String userName) {
+        Long id = idsByUserName.get(userName, key -> userRepository.findByUserName(key)
+                .map(user -> {
+                    usersById.put(user.getId(), user);
+                    return user.getId();
+                })
+                .orElse(null));
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    /**
+     * 使指定用户的缓存失效（在当前事务提交后再失效一次，避免提交前的并发读取回填旧值）
+     * @param ids 用户ID
+     */
+    public void evict(Collection<Long> ids) {
+        doEvict(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(ids);
+                }
+            });
+        }
+    }
+
+    /**
+     * ID -> 用户缓存（供指标统计）
+     */
+    public Cache<Long, User> usersById() {
+        return usersById;
+    }
+
+    /**
+     * 用户名 -> ID 缓存（供指标统计）
+     */
+    public Cache<String, Long> idsByUserName() {
+        return idsByUserName;
+    }
+
+    private void doEvict(Collection<Long> ids) {
+        usersById.invalidateAll(ids);
+        idsByUserName.asMap().values().removeIf(ids::contains);
+    }
+}
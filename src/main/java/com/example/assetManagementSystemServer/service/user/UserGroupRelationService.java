@@ -1,8 +1,11 @@
 package com.example.assetManagementSystemServer.service.user;
 
 import com.example.assetManagementSystemServer.base.query.Items;
+import com.example.assetManagementSystemServer.base.query.KeysetCursor;
 import com.example.assetManagementSystemServer.base.query.ListParam;
 import com.example.assetManagementSystemServer.base.service.BaseService;
+import com.example.assetManagementSystemServer.config.CacheConfig;
+import com.example.assetManagementSystemServer.dto.GroupMemberDTO;
 import com.example.assetManagementSystemServer.entity.user.User;
 import com.example.assetManagementSystemServer.entity.user.UserGroup;
 import com.example.assetManagementSystemServer.entity.user.UserGroupRelation;
@@ -12,26 +15,59 @@ import com.example.assetManagementSystemServer.exception.BusinessException;
 import com.example.assetManagementSystemServer.repository.user.UserGroupRelationRepository;
 import com.example.assetManagementSystemServer.repository.user.UserGroupRepository;
 import com.example.assetManagementSystemServer.repository.user.UserRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class UserGroupRelationService extends BaseService<UserGroupRelation, UserGroupRelationId> {
 
+    private static final String INSERT_RELATION_SQL =
+            "INSERT INTO user_group_relation (group_id, user_id, created_at) VALUES (?, ?, ?)";
+
+    /**
+     * 批量操作的分批大小（JDBC 批量插入与 IN 列表）
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 成员列表游标键
+     */
+    private static final String MEMBER_CURSOR_KEY = "userId";
+
     private final UserGroupRelationRepository relationRepository;
     private final UserRepository userRepository;
     private final UserGroupRepository groupRepository;
+    private final GroupMembershipIndex membershipIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final GroupMemberCounter memberCounter;
 
     public UserGroupRelationService(UserGroupRelationRepository relationRepository,
                                     UserRepository userRepository,
-                                    UserGroupRepository groupRepository) {
+                                    UserGroupRepository groupRepository,
+                                    GroupMembershipIndex membershipIndex,
+                                    JdbcTemplate jdbcTemplate,
+                                    GroupMemberCounter memberCounter) {
         this.relationRepository = relationRepository;
         this.userRepository = userRepository;
         this.groupRepository = groupRepository;
+        this.membershipIndex = membershipIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.memberCounter = memberCounter;
     }
 
     @Override
@@ -40,6 +76,7 @@ public class UserGroupRelationService extends BaseService<UserGroupRelation, Use
     }
 
     @Transactional
+    @CacheEvict(value = CacheConfig.USER_GROUPS_CACHE, key = "#userId")
     public UserGroupRelation addUserToGroup(Long groupId, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ResponseStatusEnum.USER_NOT_FOUND));
@@ -56,11 +93,13 @@ public class UserGroupRelationService extends BaseService<UserGroupRelation, Use
         relation.setId(relationId);
         relation.setGroup(group);
         relation.setUser(user);
-        groupRepository.changeMemberCount(groupId, 1);
+        memberCounter.add(groupId, 1);
+        membershipIndex.added(groupId, List.of(userId));
         return relationRepository.save(relation);
     }
 
     @Transactional
+    @CacheEvict(value = CacheConfig.USER_GROUPS_CACHE, key = "#userId")
     public void removeUserFromGroup(Long groupId, Long userId) {
         UserGroupRelationId relationId = new UserGroupRelationId(groupId, userId);
         if (!relationRepository.existsById(relationId)) {
@@ -68,46 +107,118 @@ public class UserGroupRelationService extends BaseService<UserGroupRelation, Use
         }
 
         relationRepository.deleteById(relationId);
-        groupRepository.changeMemberCount(groupId, -1);
+        memberCounter.add(groupId, -1);
+        membershipIndex.removed(groupId, List.of(userId));
     }
 
-    public Items<UserGroupRelation> listGroupMembers(Long groupId, ListParam param) {
-        Specification<UserGroupRelation> spec = (root, query, cb) ->
-                cb.equal(root.get("group").get("id"), groupId);
+    /**
+     * 分页查询组成员
+     * 按用户ID排序，一条关联查询直接返回成员投影，不加载完整的用户与用户组实体；
+     * 传入游标时按用户ID定位（游标分页），否则沿用偏移分页
+     * @param groupId 用户组ID
+     * @param param   分页参数（仅使用 offset、limit、cursor 与 count）
+     * @return 成员列表，游标分页时 next 为下一页游标
+     */
+    public Items<GroupMemberDTO> listGroupMembers(Long groupId, ListParam param) {
+        validateParam(param);
+        if (param.getFilter() != null && !param.getFilter().isBlank() || param.getSort().isSorted()) {
+            throw new IllegalArgumentException("成员列表不支持过滤与排序");
+        }
+        Long total = param.isCount() ? relationRepository.countGroupMembers(groupId) : null;
+        if (!param.isKeysetMode()) {
+            Slice<GroupMemberDTO> page = relationRepository.findMembers(groupId, buildPageRequest(param));
+            return new Items<>(page.getContent(), total, null, page.hasNext());
+        }
 
-        Page<UserGroupRelation> page = relationRepository.findAll(spec, buildPageRequest(param));
-        return buildResult(page, param.isCount());
+        Object after = KeysetCursor.decode(param.getCursor(),
+                key -> MEMBER_CURSOR_KEY.equals(key) ? Long.class : null).getKeys().get(MEMBER_CURSOR_KEY);
+        List<GroupMemberDTO> rows = relationRepository.findMembersAfter(groupId,
+                after == null ? 0L : (Long) after, Limit.of(param.getLimit() + 1));
+
+        boolean hasMore = rows.size() > param.getLimit();
+        List<GroupMemberDTO> members = hasMore ? rows.subList(0, param.getLimit()) : rows;
+        String next = hasMore
+                ? KeysetCursor.encode(ScrollPosition.forward(Map.of(MEMBER_CURSOR_KEY, members.get(members.size() - 1).getUserId())))
+                : null;
+        return new Items<>(List.copyOf(members), total, next, hasMore);
     }
 
+    /**
+     * 批量添加成员
+     * 一次查询已有成员，其余按 JDBC 批量插入，成员数只登记一次增量；已在组中的用户跳过
+     * @param groupId 用户组ID
+     * @param userIds 用户ID列表
+     * @return 实际新增的成员数
+     */
     @Transactional
+    @CacheEvict(value = CacheConfig.USER_GROUPS_CACHE, allEntries = true)
     public int batchAddUsers(Long groupId, List<Long> userIds) {
-        UserGroup group = groupRepository.getReferenceById(groupId);
+        if (!groupRepository.existsById(groupId)) {
+            throw new BusinessException(ResponseStatusEnum.GROUP_NOT_FOUND);
+        }
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(userIds));
+        if (distinctIds.isEmpty()) {
+            return 0;
+        }
 
-        List<User> existUsers = userRepository.findAllById(userIds);
-        if (existUsers.size() != userIds.size()) {
+        Set<Long> existingUsers = new HashSet<>();
+        Set<Long> existingMembers = new HashSet<>();
+        for (List<Long> chunk : chunks(distinctIds)) {
+            existingUsers.addAll(userRepository.findExistingIds(chunk));
+            existingMembers.addAll(relationRepository.findMemberIds(groupId, chunk));
+        }
+        if (existingUsers.size() != distinctIds.size()) {
             throw new BusinessException(ResponseStatusEnum.USER_NOT_FOUND);
         }
 
-        List<UserGroupRelation> relations = userIds.stream()
-                .filter(userId -> !relationExists(groupId, userId))
-                .map(userId -> {
-                    UserGroupRelation relation = new UserGroupRelation();
-                    relation.setId(new UserGroupRelationId(groupId, userId));
-                    relation.setGroup(group);
-                    relation.setUser(userRepository.getReferenceById(userId));
-                    return relation;
-                })
+        List<Long> newMembers = distinctIds.stream()
+                .filter(userId -> !existingMembers.contains(userId))
                 .collect(Collectors.toList());
+        if (newMembers.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_RELATION_SQL, newMembers, BATCH_SIZE, (ps, userId) -> {
+            ps.setLong(1, groupId);
+            ps.setLong(2, userId);
+            ps.setTimestamp(3, now);
+        });
+        memberCounter.add(groupId, newMembers.size());
+        membershipIndex.added(groupId, newMembers);
+        return newMembers.size();
+    }
 
-        int addedCount = relationRepository.saveAll(relations).size();
-        if (addedCount > 0) {
-            groupRepository.changeMemberCount(groupId, addedCount);
+    /**
+     * 批量移除成员（不在组中的用户忽略）
+     * @param groupId 用户组ID
+     * @param userIds 用户ID列表
+     * @return 实际移除的成员数
+     */
+    @Transactional
+    @CacheEvict(value = CacheConfig.USER_GROUPS_CACHE, allEntries = true)
+    public int batchRemoveUsers(Long groupId, List<Long> userIds) {
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(userIds));
+        int removedCount = 0;
+        for (List<Long> chunk : chunks(distinctIds)) {
+            removedCount += relationRepository.deleteMembers(groupId, chunk);
+        }
+        if (removedCount > 0) {
+            memberCounter.add(groupId, -removedCount);
+            membershipIndex.removed(groupId, distinctIds);
         }
-        return addedCount;
+        return removedCount;
     }
 
-    private boolean relationExists(Long groupId, Long userId) {
-        return relationRepository.existsById(new UserGroupRelationId(groupId, userId));
+    /**
+     * 按 IN 列表上限切分
+     */
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+        }
+        return chunks;
     }
 
 
@@ -3,6 +3,7 @@ package com.example.assetManagementSystemServer.service.user;
 import com.example.assetManagementSystemServer.base.query.Items;
 import com.example.assetManagementSystemServer.base.query.ListParam;
 import com.example.assetManagementSystemServer.base.service.BaseService;
+import com.example.assetManagementSystemServer.config.CacheConfig;
 import com.example.assetManagementSystemServer.entity.user.User;
 import com.example.assetManagementSystemServer.entity.user.UserGroup;
 import com.example.assetManagementSystemServer.entity.user.UserGroupRelationId;
@@ -11,6 +12,7 @@ import com.example.assetManagementSystemServer.exception.BusinessException;
 import com.example.assetManagementSystemServer.repository.user.UserGroupRelationRepository;
 import com.example.assetManagementSystemServer.repository.user.UserGroupRepository;
 import com.example.assetManagementSystemServer.repository.user.UserRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.domain.Specification;
@@ -18,7 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 public class UserGroupService extends BaseService<UserGroup, Long> {
@@ -27,13 +29,16 @@ public class UserGroupService extends BaseService<UserGroup, Long> {
     private final UserRepository userRepository;
     private final UserGroupRelationRepository relationRepository;
     private final UserService userService;
+    private final GroupMembershipIndex membershipIndex;
 
     public UserGroupService(UserGroupRepository groupRepository,
-                            UserRepository userRepository, UserGroupRelationRepository relationRepository, UserService userService) {
+                            UserRepository userRepository, UserGroupRelationRepository relationRepository, UserService userService,
+                            GroupMembershipIndex membershipIndex) {
         this.groupRepository = groupRepository;
         this.userRepository = userRepository;
         this.relationRepository = relationRepository;
         this.userService = userService;
+        this.membershipIndex = membershipIndex;
     }
 
     @Override
@@ -41,6 +46,14 @@ public class UserGroupService extends BaseService<UserGroup, Long> {
         return groupRepository;
     }
 
+    /**
+     * 可排序字段：主键与唯一索引字段
+     */
+    @Override
+    protected Set<String> getSortableFields() {
+        return Set.of("id", "groupName");
+    }
+
     @Transactional
     public UserGroup createGroup(String groupName, Long creatorId) {
         User creator = userRepository.findById(creatorId)
@@ -57,6 +70,7 @@ public class UserGroupService extends BaseService<UserGroup, Long> {
     }
 
     @Transactional
+    @CacheEvict(value = CacheConfig.USER_GROUPS_CACHE, allEntries = true)
     public void deleteGroup(Long groupId, Long operatorId) {
         UserGroup group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new BusinessException(ResponseStatusEnum.GROUP_NOT_FOUND));
@@ -66,6 +80,7 @@ public class UserGroupService extends BaseService<UserGroup, Long> {
         }
         relationRepository.deleteByGroupId(groupId);
         groupRepository.delete(group);
+        membershipIndex.groupDeleted(groupId);
     }
 
     public Items<UserGroup> listGroupsByCreator(Long creatorId, ListParam param) {
@@ -105,17 +120,20 @@ public class UserGroupService extends BaseService<UserGroup, Long> {
     /**
      * 获取用户所属群组ID列表
      * @param userId 用户ID
-     * @return 群组ID列表（缓存优化）
+     * @return 群组ID列表（缓存优化，成员变更时失效；返回的列表不可修改）
      */
-    @Cacheable(value = "userGroupsCache", key = "#userId") // 修正缓存名称
+    @Cacheable(value = CacheConfig.USER_GROUPS_CACHE, key = "#userId")
     public List<Long> getUserGroups(Long userId) {
         return relationRepository.findGroupIdsByUserId(userId)
                 .stream()
                 .map(UserGroupRelationId::getGroupId) // 显式类型转换
-                .collect(Collectors.toList());
+                .toList();
     }
 
+    /**
+     * 用户是否在组中（内存索引，二分查找）
+     */
     public Boolean isUserInGroup(Long userId, Long groupId) {
-        return relationRepository.existsByGroupIdAndUserId(groupId, userId);
+        return membershipIndex.isMember(userId, groupId);
     }
 }
\ No newline at end of file
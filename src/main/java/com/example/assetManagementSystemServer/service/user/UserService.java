@@ -1,13 +1,15 @@
 package com.example.assetManagementSystemServer.service.user;
 
 import com.example.assetManagementSystemServer.base.repository.BaseRepository;
+import com.example.assetManagementSystemServer.base.security.AuthUser;
 import com.example.assetManagementSystemServer.base.service.BaseService;
 import com.example.assetManagementSystemServer.enums.BucketType;
 import com.example.assetManagementSystemServer.enums.ResponseStatusEnum;
 import com.example.assetManagementSystemServer.exception.BusinessException;
 import com.example.assetManagementSystemServer.entity.user.User;
 import com.example.assetManagementSystemServer.repository.user.UserRepository;
-import com.example.assetManagementSystemServer.service.storage.CosService;
+import com.example.assetManagementSystemServer.service.storage.StorageBackend;
+import com.example.assetManagementSystemServer.service.storage.StoragePaths;
 import com.qcloud.cos.model.ResponseHeaderOverrides;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.sql.Date;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 用户服务类
@@ -33,14 +36,25 @@ public class UserService extends BaseService<User, Long>{
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final CosService cosService;
+    private final StorageBackend storage;
+    private final StoragePaths storagePaths;
+    private final SecurityVersionService securityVersionService;
+    private final UserCache userCache;
+    private final RefreshTokenService refreshTokenService;
 
+    /**
+     * 按ID获取用户（走缓存，返回的实体只读）
+     */
     public User getUserById(Long id) {
-        return userRepository.findById(id)
+        return userCache.findById(id)
                 .orElseThrow(() -> new BusinessException(ResponseStatusEnum.USER_NOT_FOUND));
     }
+
+    /**
+     * 按用户名获取用户（走缓存，返回的实体只读）
+     */
     public User getUserByUserName(String userName) {
-        return userRepository.findByUserName(userName).orElse(null);
+        return userCache.findByUserName(userName).orElse(null);
     }
 
     public List<User> getAllUsers() {
@@ -69,19 +83,30 @@ public class UserService extends BaseService<User, Long>{
     public void updateUser(Long userId, User updatedUser) {
         userRepository.findById(userId)
                 .map(user -> {
+                    boolean securityChanged = false;
                     // 更新需要修改的字段
                     if (StringUtils.isNotBlank(updatedUser.getUserName())) {
+                        securityChanged |= !updatedUser.getUserName().equals(user.getUserName());
                         user.setUserName(updatedUser.getUserName());
                     }
                     if (StringUtils.isNotBlank(updatedUser.getUserPassword())) {
+                        securityChanged = true;
                         user.setUserPassword(passwordEncoder.encode(updatedUser.getUserPassword()));
                     }
                     if (updatedUser.getRole() != null) {
+                        securityChanged |= updatedUser.getRole() != user.getRole();
                         user.setRole(updatedUser.getRole());
                     }
                     if (updatedUser.isStatus()!= user.isStatus()) {
+                        securityChanged = true;
                         user.setStatus(updatedUser.isStatus());
                     }
+                    // 用户名、密码、角色或状态变更后，已签发的令牌失效
+                    if (securityChanged) {
+                        user.setSecurityVersion(user.getSecurityVersion() + 1);
+                        securityVersionService.evict(List.of(userId));
+                    }
+                    userCache.evict(List.of(userId));
                     return userRepository.save(user);
                 })
                 .orElseThrow(() -> new BusinessException(ResponseStatusEnum.USER_NOT_FOUND));
@@ -89,6 +114,9 @@ public class UserService extends BaseService<User, Long>{
     @Transactional
     public void deleteUser(Long id) {
         userRepository.deleteById(id);
+        refreshTokenService.revokeAll(List.of(id));
+        securityVersionService.evict(List.of(id));
+        userCache.evict(List.of(id));
     }
 
     @Transactional
@@ -97,6 +125,9 @@ public class UserService extends BaseService<User, Long>{
             throw new BusinessException(ResponseStatusEnum.INVALID_PARAM);
         }
         userRepository.deleteBatch(ids);
+        refreshTokenService.revokeAll(toLongIds(ids));
+        securityVersionService.evict(toLongIds(ids));
+        userCache.evict(toLongIds(ids));
     }
 
 
@@ -105,17 +136,37 @@ public class UserService extends BaseService<User, Long>{
         if (ids == null || ids.isEmpty()) {
             throw new BusinessException(ResponseStatusEnum.INVALID_PARAM);
         }
-        return userRepository.updateStatusBatch(status, ids);
+        int updated = userRepository.updateStatusBatch(status, ids);
+        securityVersionService.evict(toLongIds(ids));
+        userCache.evict(toLongIds(ids));
+        return updated;
     }
-    public Long getCurrentUserId() {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    private static List<Long> toLongIds(List<Integer> ids) {
+        return ids.stream().map(Integer::longValue).toList();
+    }
+    /**
+     * 当前用户ID（取自认证主体，无需查库）
+     */
+    public Long getCurrentUserId() {
+        AuthUser authUser = getCurrentAuthUser();
+        if (authUser != null) {
+            return authUser.getId();
+        }
+        // 兜底：认证主体未携带用户ID时按用户名查询
+        return getUserByUserName(getCurrentUserName()).getId();
+    }
 
-        // 从Principal中提取用户名
-        String username = authentication.getName();
+    /**
+     * 当前用户名（取自认证主体）
+     */
+    public String getCurrentUserName() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
 
-        // 通过用户名查询用户服务获取ID
-        return getUserByUserName(username).getId();
+    private AuthUser getCurrentAuthUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof AuthUser authUser ? authUser : null;
     }
 
     @Override
@@ -123,13 +174,25 @@ public class UserService extends BaseService<User, Long>{
         return userRepository;
     }
 
+    /**
+     * 可排序字段：主键与唯一索引字段
+     */
+    @Override
+    protected Set<String> getSortableFields() {
+        return Set.of("id", "userName");
+    }
+
     //上传头像
     @Transactional
     public void uploadAvatar(MultipartFile file) {
         Long currentUserId = getCurrentUserId();
-        String url = cosService.uploadFile(BucketType.PUBLIC, "avatar", file, currentUserId);
-        User user = getUserById(currentUserId);
-        user.setAvatarCosKey(extractCosKey(url));
+        String key = storage.upload(BucketType.PUBLIC,
+                storagePaths.generateKey(BucketType.PUBLIC, "avatar", file.getOriginalFilename(), currentUserId), file);
+        // 需要修改实体，直接从仓库加载而非使用缓存中的只读实例
+        User user = userRepository.findById(currentUserId)
+                .orElseThrow(() -> new BusinessException(ResponseStatusEnum.USER_NOT_FOUND));
+        user.setAvatarCosKey(key);
+        userCache.evict(List.of(currentUserId));
         userRepository.save(user);
     }
 
@@ -138,14 +201,9 @@ public class UserService extends BaseService<User, Long>{
         Long currentUserId = getCurrentUserId();
         User user = getUserById(currentUserId);
         if (user.getAvatarCosKey() != null){
-            return cosService.generateDynamicUrl(BucketType.PUBLIC, user.getAvatarCosKey().substring(user.getAvatarCosKey().lastIndexOf(".com")+5), null, 120);
+            return storage.presign(BucketType.PUBLIC, storage.objectKey(user.getAvatarCosKey()),
+                    StorageBackend.PresignOptions.inline(120));
         }
         return "";
     }
-
-    private String extractCosKey(String cosUrl) {
-        // 正确提取完整路径（如 groups/documents/2/20250330/filename.jpg）
-        String prefix = cosService.getBucketDomain(); // 获取存储桶域名部分
-        return cosUrl.replace(prefix, ""); // 移除域名保留完整路径
-    }
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.example.assetManagementSystemServer.util;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import com.example.assetManagementSystemServer.config.JwtKeyProperties;
+import lombok.Getter;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 密钥集
+ * 按 kid 保存多把有效密钥，每把密钥的验签器只构建一次；
+ * 只有持有私钥的签发节点才能签名，其他节点仅凭公钥验签
+ */
+public class JwtKeySet {
+
+    private final Map<String, JWTVerifier> verifiers = new HashMap<>();
+
+    /**
+     * 无 kid 令牌（HMAC）的验签器，未启用时为 null
+     */
+    private final JWTVerifier legacyVerifier;
+
+    /**
+     * 签名算法，本节点不签发时为 null
+     */
+    private final Algorithm signingAlgorithm;
+
+    /**
+     * 签名使用的 kid，HMAC 签名时为 null
+     */
+    @Getter
+    private final String signingKid;
+
+    /**
+     * @param properties 非对称密钥配置
+     * @param secret     HMAC 密钥（jwt.secret，可为空）
+     */
+    public JwtKeySet(JwtKeyProperties properties, String secret) {
+        Algorithm hmac = secret == null || secret.isEmpty() ? null : Algorithm.HMAC256(secret);
+        Algorithm signing = null;
+        for (JwtKeyProperties.Key key : properties.getKeys()) {
+            if (key.getKid() == null || key.getKid().isBlank()) {
+                throw new IllegalStateException("JWT 密钥缺少 kid");
+            }
+            boolean signer = key.getKid().equals(properties.getSigningKid());
+            Algorithm algorithm = toAlgorithm(key, signer);
+            verifiers.put(key.getKid(), JWT.require(algorithm).build());
+            if (signer) {
+                signing = algorithm;
+            }
+        }
+
+        if (properties.getKeys().isEmpty()) {
+            // 未配置非对称密钥：沿用 HMAC 签发与验签
+            if (hmac == null) {
+                throw new IllegalStateException("未配置 jwt.secret 或 jwt.keys");
+            }
+            this.signingAlgorithm = hmac;
+            this.signingKid = null;
+            this.legacyVerifier = JWT.require(hmac).build();
+        } else {
+            if (properties.getSigningKid() != null && signing == null) {
+                throw new IllegalStateException("未找到签名密钥: " + properties.getSigningKid());
+            }
+            this.signingAlgorithm = signing;
+            this.signingKid = signing == null ? null : properties.getSigningKid();
+            this.legacyVerifier = properties.isAcceptLegacyHmac() && hmac != null ? JWT.require(hmac).build() : null;
+        }
+    }
+
+    /**
+     * 获取签名算法
+     * @return Algorithm
+     * @throws IllegalStateException 本节点未配置签名私钥
+     */
+    public Algorithm getSigningAlgorithm() {
+        if (signingAlgorithm == null) {
+            throw new IllegalStateException("本节点未配置 JWT 签名私钥");
+        }
+        return signingAlgorithm;
+    }
+
+    /**
+     * 按 kid 获取验签器
+     * @param kid 令牌头中的 kid（为空表示旧 HMAC 令牌）
+     * @return 验签器，kid 未知或不再接受时返回 null
+     */
+    public JWTVerifier verifier(String kid) {
+        return kid == null ? legacyVerifier : verifiers.get(kid);
+    }
+
+    private static Algorithm toAlgorithm(JwtKeyProperties.Key key, boolean signer) {
+        String name = key.getAlgorithm().toUpperCase();
+        boolean rsa = name.startsWith("RS");
+        if (!rsa && !name.startsWith("ES")) {
+            throw new IllegalStateException("不支持的 JWT 算法: " + key.getAlgorithm());
+        }
+        if (key.getPublicKey() == null) {
+            throw new IllegalStateException("JWT 密钥缺少公钥: " + key.getKid());
+        }
+        if (signer && key.getPrivateKey() == null) {
+            throw new IllegalStateException("JWT 签名密钥缺少私钥: " + key.getKid());
+        }
+        try {
+            KeyFactory factory = KeyFactory.getInstance(rsa ? "RSA" : "EC");
+            PublicKey publicKey = factory.generatePublic(new X509EncodedKeySpec(decodePem(key.getPublicKey())));
+            PrivateKey privateKey = signer
+                    ? factory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(key.getPrivateKey())))
+                    : null;
+            return switch (name) {
+                case "RS256" -> Algorithm.RSA256((RSAPublicKey) publicKey, (RSAPrivateKey) privateKey);
+                case "RS384" -> Algorithm.RSA384((RSAPublicKey) publicKey, (RSAPrivateKey) privateKey);
+                case "RS512" -> Algorithm.RSA512((RSAPublicKey) publicKey, (RSAPrivateKey) privateKey);
+                case "ES256" -> Algorithm.ECDSA256((ECPublicKey) publicKey, (ECPrivateKey) privateKey);
+                case "ES384" -> Algorithm.ECDSA384((ECPublicKey) publicKey, (ECPrivateKey) privateKey);
+                case "ES512" -> Algorithm.ECDSA512((ECPublicKey) publicKey, (ECPrivateKey) privateKey);
+                default -> throw new IllegalStateException("不支持的 JWT 算法: " + key.getAlgorithm());
+            };
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("JWT 密钥解析失败: " + key.getKid(), e);
+        }
+    }
+
+    /**
+     * 解析 PEM 或纯 Base64 编码的密钥
+     */
+    private static byte[] decodePem(String value) {
+        String base64 = value.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
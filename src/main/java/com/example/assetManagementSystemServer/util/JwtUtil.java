@@ -1,35 +1,68 @@
 package com.example.assetManagementSystemServer.util;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
+import com.example.assetManagementSystemServer.config.JwtKeyProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * JWT 工具类
  */
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
+    /**
+     * 安全版本号声明
+     */
+    public static final String CLAIM_SECURITY_VERSION = "ver";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtKeyProperties jwtKeyProperties;
+
+    @Value("${jwt.secret:}")
     private String secretKey; // JWT密钥
 
     @Value("${jwt.expiration}")
     private Long expiration;// JWT过期时间
 
+    private JwtKeySet keySet;
+
+    /**
+     * 初始化密钥集（签名算法与各 kid 的验签器线程安全，全局复用）
+     */
+    @PostConstruct
+    void init() {
+        keySet = new JwtKeySet(jwtKeyProperties, secretKey);
+    }
+
+    /**
+     * 访问令牌有效期
+     * @return 毫秒数
+     */
+    public long getExpiration() {
+        return expiration;
+    }
+
     /**
      * 获取用于签名的算法
      * @return Algorithm
      */
     private Algorithm getAlgorithm() {
-        return Algorithm.HMAC256(secretKey);
+        return keySet.getSigningAlgorithm();
     }
 
     /**
@@ -50,14 +83,33 @@ public class JwtUtil {
         return getDecodedJWT(token).getExpiresAt();
     }
 
+    /**
+     * 验签并解析 JWT（每个请求只需调用一次）
+     * 按令牌头中的 kid 选择验签器；验签通过的令牌会缓存到过期时间，再次出现时不再重复验签
+     * @param token JWT
+     * @return DecodedJWT
+     */
+    public DecodedJWT verify(String token) {
+        DecodedJWT decoded = verifiedTokenCache.get(token);
+        if (decoded == null) {
+            DecodedJWT unverified = JWT.decode(token);
+            JWTVerifier verifier = keySet.verifier(unverified.getKeyId());
+            if (verifier == null) {
+                throw new JWTVerificationException("未知的签名密钥: " + unverified.getKeyId());
+            }
+            decoded = verifier.verify(unverified);
+            verifiedTokenCache.put(token, decoded);
+        }
+        return decoded;
+    }
+
     /**
      * 解析 JWT
      * @param token JWT
      * @return DecodedJWT
      */
     private DecodedJWT getDecodedJWT(String token) {
-        JWTVerifier verifier = JWT.require(getAlgorithm()).build();
-        return verifier.verify(token);
+        return verify(token);
     }
 
     /**
@@ -72,13 +124,20 @@ public class JwtUtil {
     /**
      * 生成 JWT
      * @param username 用户名
+     * @param securityVersion 用户安全版本号（角色、状态、密码变更时递增，旧令牌随之失效）
      * @return JWT
      */
-    public String generateToken(String username,Long id,boolean status, Collection<? extends GrantedAuthority> authorities) {
-        return JWT.create()
+    public String generateToken(String username,Long id,boolean status, Collection<? extends GrantedAuthority> authorities, long securityVersion) {
+        JWTCreator.Builder builder = JWT.create();
+        if (keySet.getSigningKid() != null) {
+            builder.withKeyId(keySet.getSigningKid());
+        }
+        return builder
                 .withSubject(username)
+                .withJWTId(UUID.randomUUID().toString()) // 令牌ID，用于吊销
                 .withClaim("id", id)
                 .withClaim("status", status)
+                .withClaim(CLAIM_SECURITY_VERSION, securityVersion)
                 .withClaim("roles", authorities.stream()
                         .map(GrantedAuthority::getAuthority)
                         .collect(Collectors.toList())) // 添加角色声明
@@ -95,7 +154,16 @@ public class JwtUtil {
      * @return 是否有效
      */
     public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        return validateToken(getDecodedJWT(token), username);
+    }
+
+    /**
+     * 验证已解析的 JWT
+     * @param decoded 已验签的 JWT
+     * @param username 用户名
+     * @return 是否有效
+     */
+    public Boolean validateToken(DecodedJWT decoded, String username) {
+        return decoded.getSubject().equals(username) && !decoded.getExpiresAt().before(new Date());
     }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.example.assetManagementSystemServer.util;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 已验签令牌缓存
+ * 以令牌的 SHA-256 摘要为键缓存验签结果，每个条目在各自令牌的过期时间（exp）到达时失效；
+ * 基于 Caffeine 的有界缓存，读取无全局锁，避免同一令牌在每个请求上重复验签
+ */
+@Component
+public class VerifiedTokenCache {
+
+    /**
+     * 最大缓存条目数
+     */
+    public static final int MAX_SIZE = 10_000;
+
+    private final Cache<String, DecodedJWT> tokens = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfter(new Expiry<String, DecodedJWT>() {
+                @Override
+                public long expireAfterCreate(String key, DecodedJWT decoded, long currentTime) {
+                    return untilExpiry(decoded);
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, DecodedJWT decoded, long currentTime, long currentDuration) {
+                    return untilExpiry(decoded);
+                }
+
+                @Override
+                public long expireAfterRead(String key, DecodedJWT decoded, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+
+    /**
+     * 查找未过期的验签结果
+     * @param token 原始令牌
+     * @return 已验签的令牌，未命中或已过期时返回 null
+     */
+    public DecodedJWT get(String token) {
+        return tokens.getIfPresent(hash(token));
+    }
+
+    /**
+     * 缓存验签结果（无过期时间的令牌不缓存）
+     * @param token   原始令牌
+     * @param decoded 验签结果
+     */
+    public void put(String token, DecodedJWT decoded) {
+        if (decoded.getExpiresAt() == null) {
+            return;
+        }
+        tokens.put(hash(token), decoded);
+    }
+
+    /**
+     * 摘要 -> 验签结果缓存（供指标统计）
+     */
+    public Cache<String, DecodedJWT> tokens() {
+        return tokens;
+    }
+
+    /**
+     * 距令牌过期的剩余时间（纳秒），已过期时为 0
+     */
+    private static long untilExpiry(DecodedJWT decoded) {
+        long remainingMillis = decoded.getExpiresAt().getTime() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 不可用", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.assetManagementSystemServer.base.query;
+
+import com.example.assetManagementSystemServer.enums.RoleEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetCursorTest {
+
+    private static final Map<String, Class<?>> TYPES = Map.of(
+            "id", Long.class,
+            "createdAt", Date.class,
+            "issuedAt", Timestamp.class,
+            "updatedAt", LocalDateTime.class,
+            "price", BigDecimal.class,
+            "role", RoleEnum.class);
+
+    private static final Function<String, Class<?>> KEY_TYPES = TYPES::get;
+
+    @Test
+    void roundTripsByAttributeType() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", new Date(1_700_000_000_123L));
+        keys.put("issuedAt", new Timestamp(1_700_000_000_456L));
+        keys.put("updatedAt", LocalDateTime.of(2024, 5, 1, 8, 30, 15));
+        keys.put("price", new BigDecimal("12.50"));
+        keys.put("role", RoleEnum.PROCURE);
+        keys.put("id", 42L);
+
+        KeysetScrollPosition decoded = KeysetCursor.decode(KeysetCursor.encode(ScrollPosition.forward(keys)), KEY_TYPES);
+        assertEquals(keys, decoded.getKeys());
+    }
+
+    @Test
+    void decodesHibernateTimestampAsAttributeDateType() {
+        // java.util.Date 属性在运行时常为 Timestamp 实例，解码后按属性类型还原且取值一致
+        Timestamp loaded = new Timestamp(1_700_000_000_789L);
+        String cursor = KeysetCursor.encode(ScrollPosition.forward(Map.of("createdAt", loaded)));
+
+        Object value = KeysetCursor.decode(cursor, KEY_TYPES).getKeys().get("createdAt");
+        assertEquals(Date.class, value.getClass());
+        assertEquals(loaded.getTime(), ((Date) value).getTime());
+    }
+
+    @Test
+    void emptyCursorStartsFromFirstPage() {
+        assertTrue(KeysetCursor.decode(null, KEY_TYPES).isInitial());
+        assertTrue(KeysetCursor.decode(" ", KEY_TYPES).isInitial());
+    }
+
+    @Test
+    void rejectsUnknownKeysAndBadValues() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(raw("{\"secret\":\"1\"}"), KEY_TYPES));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(raw("{\"id\":\"abc\"}"), KEY_TYPES));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(raw("{\"role\":\"ROOT\"}"), KEY_TYPES));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("%%%", KEY_TYPES));
+    }
+
+    @Test
+    void ignoresClassNamesSuppliedByClient() {
+        // 旧格式中由游标指定的枚举类名不再被加载
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(
+                raw("{\"role\":[\"enum:java.lang.Thread$State\",\"NEW\"]}"), KEY_TYPES));
+    }
+
+    private static String raw(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
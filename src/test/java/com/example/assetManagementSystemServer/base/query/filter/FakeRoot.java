@@ -0,0 +1,71 @@
+package com.example.assetManagementSystemServer.base.query.filter;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 测试用查询根：按实体类的字段反射解析属性路径，只支持解析器用到的 get(String) 与 getJavaType()
+ */
+final class FakeRoot {
+
+    private FakeRoot() {
+    }
+
+    static Root<?> of(Class<?> type) {
+        return (Root<?>) path(Root.class, type);
+    }
+
+    private static Object path(Class<?> pathInterface, Class<?> type) {
+        return Proxy.newProxyInstance(FakeRoot.class.getClassLoader(), new Class<?>[]{pathInterface},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getJavaType" -> type;
+                    case "get" -> path(Path.class, fieldType(type, (String) args[0]));
+                    case "toString" -> "FakeRoot[" + type.getSimpleName() + "]";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static Class<?> fieldType(Class<?> type, String name) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField(name);
+                return field.getType();
+            } catch (NoSuchFieldException ignored) {
+                // 继续查找父类
+            }
+        }
+        throw new IllegalArgumentException("Unable to locate attribute [" + name + "] on " + type.getSimpleName());
+    }
+
+    /**
+     * 测试实体
+     */
+    static class Sample {
+        Long id;
+        String name;
+        Integer quantity;
+        BigDecimal price;
+        LocalDate day;
+        LocalDateTime createdAt;
+        Boolean active;
+        Level level;
+        Owner owner;
+    }
+
+    static class Owner {
+        Long id;
+        String name;
+    }
+
+    enum Level {
+        LOW, HIGH
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.assetManagementSystemServer.base.query.filter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FilterParserTest {
+
+    private static FilterNode parse(String filter) {
+        return FilterParser.parse(FakeRoot.of(FakeRoot.Sample.class), filter);
+    }
+
+    //================= 优先级与嵌套 =================//
+
+    @Test
+    void andBindsTighterThanOr() {
+        FilterNode.Or or = assertInstanceOf(FilterNode.Or.class, parse("id = 1 or name = 'a' and quantity = 2"));
+        assertEquals(2, or.children().size());
+        assertCondition(or.children().get(0), "id", "=", 1L);
+        FilterNode.And and = assertInstanceOf(FilterNode.And.class, or.children().get(1));
+        assertCondition(and.children().get(0), "name", "=", "a");
+        assertCondition(and.children().get(1), "quantity", "=", 2);
+    }
+
+    @Test
+    void notBindsTighterThanAnd() {
+        FilterNode.And and = assertInstanceOf(FilterNode.And.class, parse("not id = 1 and name = 'a'"));
+        FilterNode.Not not = assertInstanceOf(FilterNode.Not.class, and.children().get(0));
+        assertCondition(not.child(), "id", "=", 1L);
+        assertCondition(and.children().get(1), "name", "=", "a");
+    }
+
+    @Test
+    void parenthesesOverridePrecedence() {
+        FilterNode.And and = assertInstanceOf(FilterNode.And.class, parse("(id = 1 or id = 2) and name = 'a'"));
+        FilterNode.Or or = assertInstanceOf(FilterNode.Or.class, and.children().get(0));
+        assertCondition(or.children().get(0), "id", "=", 1L);
+        assertCondition(or.children().get(1), "id", "=", 2L);
+    }
+
+    @Test
+    void flattensChainedOperators() {
+        FilterNode.Or or = assertInstanceOf(FilterNode.Or.class, parse("id = 1 or id = 2 or id = 3"));
+        assertEquals(3, or.children().size());
+    }
+
+    @Test
+    void parsesNestedGroups() {
+        FilterNode.Not not = assertInstanceOf(FilterNode.Not.class,
+                parse("not (id = 1 or (name like 'x' and owner_id in (1, 2)))"));
+        FilterNode.Or or = assertInstanceOf(FilterNode.Or.class, not.child());
+        FilterNode.And and = assertInstanceOf(FilterNode.And.class, or.children().get(1));
+        assertCondition(and.children().get(0), "name", "like", "x");
+        FilterNode.In in = assertInstanceOf(FilterNode.In.class, and.children().get(1));
+        assertArrayEquals(new String[]{"owner", "id"}, in.path());
+        assertEquals(List.of(1L, 2L), in.values());
+    }
+
+    @Test
+    void redundantParenthesesCollapse() {
+        assertCondition(parse("((id = 1))"), "id", "=", 1L);
+    }
+
+    @Test
+    void keywordsAreCaseInsensitive() {
+        FilterNode.Or or = assertInstanceOf(FilterNode.Or.class, parse("id = 1 OR NOT name IS NULL"));
+        assertInstanceOf(FilterNode.Not.class, or.children().get(1));
+    }
+
+    //================= 条件类型 =================//
+
+    @Test
+    void convertsLiteralsToFieldType() {
+        assertCondition(parse("price >= 9.90"), "price", ">=", new BigDecimal("9.90"));
+        assertCondition(parse("day < 2024-01-31"), "day", "<", LocalDate.of(2024, 1, 31));
+        assertCondition(parse("createdAt > '2024-01-01 08:30'"), "createdAt", ">",
+                LocalDateTime.of(2024, 1, 1, 8, 30));
+        assertCondition(parse("active = true"), "active", "=", true);
+        assertCondition(parse("level = high"), "level", "=", FakeRoot.Level.HIGH);
+    }
+
+    @Test
+    void quotedStringsKeepSpacesAndEscapedQuotes() {
+        assertCondition(parse("name = 'it''s a test'"), "name", "=", "it's a test");
+    }
+
+    @Test
+    void stripsLegacyLikeWildcards() {
+        assertCondition(parse("name like %abc%"), "name", "like", "abc");
+    }
+
+    @Test
+    void parsesInAndNotIn() {
+        FilterNode.In in = assertInstanceOf(FilterNode.In.class, parse("level in (low, HIGH)"));
+        assertEquals(List.of(FakeRoot.Level.LOW, FakeRoot.Level.HIGH), in.values());
+        assertFalse(in.negated());
+
+        FilterNode.In notIn = assertInstanceOf(FilterNode.In.class, parse("id not in (7)"));
+        assertEquals(List.of(7L), notIn.values());
+        assertTrue(notIn.negated());
+    }
+
+    @Test
+    void parsesBetween() {
+        FilterNode.Between between = assertInstanceOf(FilterNode.Between.class,
+                parse("day between 2024-01-01 and 2024-12-31"));
+        assertEquals(LocalDate.of(2024, 1, 1), between.low());
+        assertEquals(LocalDate.of(2024, 12, 31), between.high());
+    }
+
+    @Test
+    void betweenAndIsNotConfusedWithLogicalAnd() {
+        FilterNode.And and = assertInstanceOf(FilterNode.And.class,
+                parse("quantity between 1 and 5 and name = 'a'"));
+        FilterNode.Between between = assertInstanceOf(FilterNode.Between.class, and.children().get(0));
+        assertEquals(1, between.low());
+        assertEquals(5, between.high());
+        assertCondition(and.children().get(1), "name", "=", "a");
+    }
+
+    @Test
+    void parsesIsNullAndIsNotNull() {
+        FilterNode.IsNull isNull = assertInstanceOf(FilterNode.IsNull.class, parse("owner_name is null"));
+        assertArrayEquals(new String[]{"owner", "name"}, isNull.path());
+        assertFalse(isNull.negated());
+
+        FilterNode.IsNull isNotNull = assertInstanceOf(FilterNode.IsNull.class, parse("name is not null"));
+        assertTrue(isNotNull.negated());
+    }
+
+    //================= 非法输入 =================//
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "id in ()",                 // 空 IN 列表
+            "id in (1,)",               // 末尾多余逗号
+            "id in 1",                  // 缺少括号
+            "id =",                     // 缺少字面量
+            "id = 1 2",                 // 多余的 token
+            "(id = 1",                  // 缺少右括号
+            "id = 1)",                  // 多余的右括号
+            "id = 1 and",               // 逻辑运算符后缺少条件
+            "or id = 1",                // 缺少左操作数
+            "id",                       // 缺少操作符
+            "id ~ 1",                   // 未知操作符
+            "id ! 1",                   // 单独的 !
+            "name = 'abc",              // 未闭合的字符串
+            "missing = 1",              // 不存在的字段
+            "owner_missing = 1",        // 不存在的嵌套字段
+            "owner.id = 1",             // 非法字段名
+            "id = abc",                 // 非法数字
+            "day = 2024-13-01",         // 非法日期
+            "level = medium",           // 非法枚举值
+            "quantity between 1",       // between 缺少上界
+            "quantity between 1 or 5",  // between 缺少 and
+            "name is empty",            // is 后只能是 [not] null
+            "not",                      // 只有 not
+            "()",                       // 空括号
+    })
+    void rejectsMalformedInput(String filter) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> parse(filter));
+        assertTrue(e.getMessage().startsWith("Invalid filter [" + filter + "]"), e.getMessage());
+    }
+
+    private static void assertCondition(FilterNode node, String field, String operator, Object value) {
+        FilterCondition condition = assertInstanceOf(FilterCondition.class, node);
+        assertEquals(field, String.join(".", condition.path()));
+        assertEquals(operator, condition.operator());
+        assertEquals(value, condition.value());
+    }
+}
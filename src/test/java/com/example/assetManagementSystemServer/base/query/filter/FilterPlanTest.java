@@ -0,0 +1,63 @@
+package com.example.assetManagementSystemServer.base.query.filter;
+
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FilterPlanTest {
+
+    private static final Root<?> ROOT = FakeRoot.of(FakeRoot.Sample.class);
+
+    private static FilterPlan compile(String filter) {
+        return FilterPlan.compile(ROOT, filter);
+    }
+
+    @Test
+    void shapeReplacesLiteralsAndKeepsOperators() {
+        assertEquals("and(day between ? and ?, id not in (?), name is not null, owner.id >= ?)",
+                compile("owner_id >= 3 and id not in (1, 2) and day between 2024-01-01 and 2024-02-01"
+                        + " and name is not null").shape());
+    }
+
+    @Test
+    void shapeIgnoresLiteralValuesAndSiblingOrder() {
+        FilterPlan a = compile("name = 'a' and id = 1");
+        FilterPlan b = compile("id = 42 and name = 'something else'");
+        assertEquals(a.shape(), b.shape());
+    }
+
+    @Test
+    void shapeKeepsNesting() {
+        assertEquals("and(not(or(id = ?, name like ?)), quantity < ?)",
+                compile("not (name like 'x' or id = 1) and quantity < 5").shape());
+        assertNotEquals(compile("id = 1 or name = 'a' and quantity = 2").shape(),
+                compile("(id = 1 or name = 'a') and quantity = 2").shape());
+    }
+
+    @Test
+    void collectsReferencedFields() {
+        assertEquals(Set.of("id", "name", "owner.id"),
+                compile("(id = 1 or owner_id = 2) and name like 'x' and id != 3").fields());
+    }
+
+    @Test
+    void cacheReturnsSamePlanAndPeekDoesNotCount() {
+        FilterPlanCache.clear();
+        String filter = "quantity > 10";
+        assertNull(FilterPlanCache.peek(FakeRoot.Sample.class, filter));
+
+        long hits = FilterPlanCache.hitCount();
+        long misses = FilterPlanCache.missCount();
+        FilterPlan plan = FilterPlanCache.get(ROOT, filter);
+        assertSame(plan, FilterPlanCache.get(ROOT, filter));
+        assertSame(plan, FilterPlanCache.peek(FakeRoot.Sample.class, filter));
+        assertEquals(hits + 1, FilterPlanCache.hitCount());
+        assertEquals(misses + 1, FilterPlanCache.missCount());
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.assetManagementSystemServer.config;
+
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.example.assetManagementSystemServer.service.CustomUserDetailsService;
+import com.example.assetManagementSystemServer.service.user.SecurityVersionService;
+import com.example.assetManagementSystemServer.service.user.TokenRevocationService;
+import com.example.assetManagementSystemServer.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtRequestFilterTest {
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void expiredAccessTokenContinuesUnauthenticated() throws Exception {
+        JwtUtil jwtUtil = mock(JwtUtil.class);
+        when(jwtUtil.verify("expired")).thenThrow(new TokenExpiredException("The Token has expired", Instant.now()));
+        JwtRequestFilter filter = new JwtRequestFilter(jwtUtil, mock(CustomUserDetailsService.class),
+                mock(SecurityVersionService.class), mock(TokenRevocationService.class));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/refresh");
+        request.addHeader("Authorization", "Bearer expired");
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // 请求继续交给后续过滤器与控制器，且未建立认证
+        assertNotNull(chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+}
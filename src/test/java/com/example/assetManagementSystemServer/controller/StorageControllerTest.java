@@ -0,0 +1,76 @@
+package com.example.assetManagementSystemServer.controller;
+
+import com.example.assetManagementSystemServer.enums.BucketType;
+import com.example.assetManagementSystemServer.service.storage.LocalStorageBackend;
+import com.example.assetManagementSystemServer.service.storage.StorageBackend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StorageControllerTest {
+
+    @TempDir
+    Path root;
+
+    private LocalStorageBackend backend;
+    private StorageController controller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        backend = new LocalStorageBackend(root.toString(), "", "test-secret");
+        controller = new StorageController(backend);
+    }
+
+    @Test
+    void streamsExistingFile() throws IOException {
+        Files.writeString(root.resolve("private/a.txt"), "hello");
+
+        ResponseEntity<StreamingResponseBody> response = get("a.txt");
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        assertEquals("hello", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void missingFileIsNotFoundBeforeStreaming() {
+        assertEquals(HttpStatus.NOT_FOUND, get("missing.txt").getStatusCode());
+    }
+
+    @Test
+    void invalidSignatureIsForbidden() {
+        Map<String, String> query = presign("a.txt");
+        assertEquals(HttpStatus.FORBIDDEN, controller.get("private", "b.txt",
+                Long.parseLong(query.get("expires")), null, query.get("sig")).getStatusCode());
+    }
+
+    private ResponseEntity<StreamingResponseBody> get(String key) {
+        Map<String, String> query = presign(key);
+        return controller.get("private", key, Long.parseLong(query.get("expires")), null, query.get("sig"));
+    }
+
+    private Map<String, String> presign(String key) {
+        String url = backend.presign(BucketType.PRIVATE, key, StorageBackend.PresignOptions.inline(5));
+        Map<String, String> query = new HashMap<>();
+        for (String pair : URI.create(url).getRawQuery().split("&")) {
+            int eq = pair.indexOf('=');
+            query.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.assetManagementSystemServer.repository.user;
+
+import com.example.assetManagementSystemServer.entity.user.UserGroupRelation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 存在性判断基准：count(spec) > 0 与 exists(spec) 的耗时对比，结果通过 TestReporter 输出；
+ * 整组条件下 count 需扫描全部成员，断言 exists 更快
+ * 需要可用的 MySQL 数据源，默认跳过；运行方式：
+ * mvn test -Dtest=UserGroupRelationExistsBenchmarkTest -Dbenchmark=true
+ * 数据在测试事务内写入，结束后回滚
+ */
+@SpringBootTest
+@Transactional
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class UserGroupRelationExistsBenchmarkTest {
+
+    /**
+     * 组内成员数
+     */
+    private static final int MEMBERS = 200_000;
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 500;
+
+    @Autowired
+    private UserGroupRelationRepository relationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void countVersusExists(TestReporter reporter) {
+        String prefix = "bench-" + System.nanoTime() + "-";
+        long groupId = seed(prefix);
+        long lastUserId = jdbcTemplate.queryForObject(
+                "SELECT MAX(user_id) FROM user_group_relation WHERE group_id = ?", Long.class, groupId);
+
+        // 整组判断：count 需要扫描全部成员，exists 命中第一行即返回
+        Specification<UserGroupRelation> byGroup = (root, query, cb) ->
+                cb.equal(root.get("id").get("groupId"), groupId);
+        Result wholeGroup = measure(() -> relationRepository.count(byGroup) > 0,
+                () -> relationRepository.exists(byGroup));
+        report(reporter, "group_id = ?", wholeGroup);
+        assertTrue(wholeGroup.existsNanos() < wholeGroup.countNanos(),
+                "exists(spec) 应快于 count(spec) > 0: " + wholeGroup);
+
+        // 主键点查：两种写法都只触及一行，作为对照
+        Specification<UserGroupRelation> byKey = (root, query, cb) -> cb.and(
+                cb.equal(root.get("id").get("groupId"), groupId),
+                cb.equal(root.get("id").get("userId"), lastUserId));
+        report(reporter, "group_id = ? AND user_id = ?", measure(
+                () -> relationRepository.count(byKey) > 0,
+                () -> relationRepository.exists(byKey)));
+    }
+
+    /**
+     * 写入 MEMBERS 个用户并全部加入同一个组
+     * @return 组ID
+     */
+    private long seed(String prefix) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> indexes = IntStream.range(0, MEMBERS).boxed().toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user (user_name, user_password, role, created_at, status, security_version) "
+                        + "VALUES (?, '', 'STAFF', ?, 1, 0)",
+                indexes, BATCH_SIZE, (ps, i) -> {
+                    ps.setString(1, prefix + i);
+                    ps.setTimestamp(2, now);
+                });
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM user WHERE user_name LIKE ?", Long.class, prefix + "%");
+
+        jdbcTemplate.update("INSERT INTO user_group (group_name, created_by, created_at, member_count) "
+                + "VALUES (?, ?, ?, ?)", prefix + "group", userIds.get(0), now, userIds.size());
+        long groupId = jdbcTemplate.queryForObject(
+                "SELECT id FROM user_group WHERE group_name = ?", Long.class, prefix + "group");
+
+        jdbcTemplate.batchUpdate("INSERT INTO user_group_relation (group_id, user_id, created_at) VALUES (?, ?, ?)",
+                userIds, BATCH_SIZE, (ps, userId) -> {
+                    ps.setLong(1, groupId);
+                    ps.setLong(2, userId);
+                    ps.setTimestamp(3, now);
+                });
+        return groupId;
+    }
+
+    private static Result measure(BooleanSupplier count, BooleanSupplier exists) {
+        return new Result(time(count), time(exists));
+    }
+
+    private static void report(TestReporter reporter, String label, Result result) {
+        reporter.publishEntry(label, String.format("rows=%d count(spec) > 0: %.1f µs/op, exists(spec): %.1f µs/op, speedup %.1fx",
+                MEMBERS, result.countNanos() / 1_000.0, result.existsNanos() / 1_000.0,
+                (double) result.countNanos() / result.existsNanos()));
+    }
+
+    /**
+     * 两种写法的平均单次耗时（纳秒）
+     */
+    private record Result(long countNanos, long existsNanos) {
+    }
+
+    /**
+     * 预热后取平均单次耗时
+     * @return 纳秒
+     */
+    private static long time(BooleanSupplier check) {
+        for (int i = 0; i < WARMUP; i++) {
+            assertTrue(check.getAsBoolean());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertTrue(check.getAsBoolean());
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.assetManagementSystemServer.service.storage;
+
+import com.example.assetManagementSystemServer.enums.BucketType;
+import com.example.assetManagementSystemServer.enums.ResponseStatusEnum;
+import com.example.assetManagementSystemServer.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalStorageBackendTest {
+
+    private static final byte[] CONTENT = "hello storage".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path root;
+
+    private LocalStorageBackend backend;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        backend = new LocalStorageBackend(root.toString(), "http://localhost:8080/", "test-secret");
+    }
+
+    //================= 签名校验 =================//
+
+    @Test
+    void acceptsPresignedUrl() {
+        Map<String, String> query = presign(BucketType.PRIVATE, "docs/报告 1.pdf", StorageBackend.PresignOptions.inline(5));
+        assertEquals("docs/报告 1.pdf", query.get("key"));
+        assertTrue(verify(BucketType.PRIVATE, query));
+    }
+
+    @Test
+    void acceptsPresignedDownloadUrl() {
+        Map<String, String> query = presign(BucketType.GROUPS, "a.txt",
+                StorageBackend.PresignOptions.download(5, "结果 & 汇总.txt"));
+        assertEquals("结果 & 汇总.txt", query.get("download"));
+        assertTrue(verify(BucketType.GROUPS, query));
+    }
+
+    @Test
+    void rejectsExpiredUrl() {
+        Map<String, String> query = presign(BucketType.PRIVATE, "a.txt", StorageBackend.PresignOptions.inline(-1));
+        assertFalse(verify(BucketType.PRIVATE, query));
+    }
+
+    @Test
+    void rejectsExtendedExpiry() {
+        Map<String, String> query = presign(BucketType.PRIVATE, "a.txt", StorageBackend.PresignOptions.inline(5));
+        query.put("expires", String.valueOf(Long.parseLong(query.get("expires")) + 3600));
+        assertFalse(verify(BucketType.PRIVATE, query));
+    }
+
+    @Test
+    void rejectsTamperedKey() {
+        Map<String, String> query = presign(BucketType.PRIVATE, "a.txt", StorageBackend.PresignOptions.inline(5));
+        query.put("key", "b.txt");
+        assertFalse(verify(BucketType.PRIVATE, query));
+    }
+
+    @Test
+    void rejectsTamperedDownloadName() {
+        Map<String, String> query = presign(BucketType.PRIVATE, "a.txt",
+                StorageBackend.PresignOptions.download(5, "a.txt"));
+        query.put("download", "a.html");
+        assertFalse(verify(BucketType.PRIVATE, query));
+
+        // 去掉下载名改为内联预览同样视为篡改
+        query.remove("download");
+        assertFalse(verify(BucketType.PRIVATE, query));
+    }
+
+    @Test
+    void rejectsWrongBucket() {
+        Map<String, String> query = presign(BucketType.PUBLIC, "a.txt", StorageBackend.PresignOptions.inline(5));
+        assertFalse(verify(BucketType.PRIVATE, query));
+        assertFalse(verify(BucketType.GROUPS, query));
+    }
+
+    @Test
+    void rejectsMissingOrForgedSignature() {
+        Map<String, String> query = presign(BucketType.PRIVATE, "a.txt", StorageBackend.PresignOptions.inline(5));
+        long expires = Long.parseLong(query.get("expires"));
+        assertFalse(backend.verify(BucketType.PRIVATE, "a.txt", expires, null, null));
+        assertFalse(backend.verify(BucketType.PRIVATE, "a.txt", expires, null, "0".repeat(64)));
+        assertFalse(backend.verify(BucketType.PRIVATE, "a.txt", expires, null, query.get("sig").toUpperCase()));
+    }
+
+    @Test
+    void rejectsSignatureFromAnotherSecret() throws IOException {
+        LocalStorageBackend other = new LocalStorageBackend(root.toString(), "", "other-secret");
+        Map<String, String> query = parse(other.presign(BucketType.PRIVATE, "a.txt",
+                StorageBackend.PresignOptions.inline(5)));
+        assertFalse(verify(BucketType.PRIVATE, query));
+    }
+
+    //================= 路径越界 =================//
+
+    @Test
+    void roundTripsNestedKey() throws IOException {
+        put(BucketType.GROUPS, "g1/sub/a.txt");
+        assertArrayEquals(CONTENT, get(BucketType.GROUPS, "g1/sub/a.txt"));
+        // 规范化后仍在桶内的 key 允许
+        assertArrayEquals(CONTENT, get(BucketType.GROUPS, "g1/x/../sub/a.txt"));
+        assertEquals(List.of("g1/sub/a.txt"), backend.list(BucketType.GROUPS, "g1/", 10));
+
+        backend.delete(BucketType.GROUPS, List.of("g1/sub/a.txt"));
+        assertFalse(Files.exists(root.resolve("groups/g1/sub/a.txt")));
+    }
+
+    @Test
+    void listSkipsInFlightUploadsAtAnyDepth() throws IOException {
+        put(BucketType.PUBLIC, "a.txt");
+        put(BucketType.PUBLIC, "dir/b.txt");
+        // 模拟写入中的临时文件：位于桶根目录与子目录
+        Files.write(root.resolve("public/.upload-1.tmp"), CONTENT);
+        Files.write(root.resolve("public/dir/.upload-2.tmp"), CONTENT);
+
+        assertEquals(List.of("a.txt", "dir/b.txt"), backend.list(BucketType.PUBLIC, "", 10));
+        assertTrue(backend.exists(BucketType.PUBLIC, "a.txt"));
+        assertFalse(backend.exists(BucketType.PUBLIC, "missing.txt"));
+        assertFalse(backend.exists(BucketType.PUBLIC, "dir"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "../private/secret.txt",    // 跨桶
+            "../../outside.txt",        // 越出存储根目录
+            "a/../../private/x.txt",    // 规范化后越界
+            "../publicity/x.txt",       // 同前缀的兄弟目录
+            "",                         // 桶根目录本身
+            ".",
+            "a/..",
+    })
+    void rejectsKeysOutsideBucket(String key) throws IOException {
+        Files.write(root.resolve("private/secret.txt"), CONTENT);
+
+        assertInvalid(() -> put(BucketType.PUBLIC, key));
+        assertInvalid(() -> get(BucketType.PUBLIC, key));
+        assertInvalid(() -> backend.delete(BucketType.PUBLIC, List.of(key)));
+        assertTrue(Files.exists(root.resolve("private/secret.txt")));
+        assertTrue(Files.isDirectory(root.resolve("public")));
+    }
+
+    @Test
+    void rejectsAbsolutePath() throws IOException {
+        Path outside = Files.write(root.resolve("outside.txt"), CONTENT);
+        String key = outside.toAbsolutePath().toString();
+
+        assertInvalid(() -> get(BucketType.PUBLIC, key));
+        assertInvalid(() -> backend.delete(BucketType.PUBLIC, List.of(key)));
+        assertInvalid(() -> put(BucketType.PUBLIC, key));
+        assertArrayEquals(CONTENT, Files.readAllBytes(outside));
+    }
+
+    //================= 工具方法 =================//
+
+    private Map<String, String> presign(BucketType type, String key, StorageBackend.PresignOptions options) {
+        String url = backend.presign(type, key, options);
+        assertTrue(url.startsWith("http://localhost:8080/storage/" + type.name().toLowerCase() + "?"), url);
+        return parse(url);
+    }
+
+    private boolean verify(BucketType type, Map<String, String> query) {
+        return backend.verify(type, query.get("key"), Long.parseLong(query.get("expires")),
+                query.get("download"), query.get("sig"));
+    }
+
+    private static Map<String, String> parse(String url) {
+        Map<String, String> query = new HashMap<>();
+        for (String pair : URI.create(url).getRawQuery().split("&")) {
+            int eq = pair.indexOf('=');
+            query.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private void put(BucketType type, String key) throws IOException {
+        backend.put(type, key, Channels.newChannel(new ByteArrayInputStream(CONTENT)),
+                CONTENT.length, "text/plain");
+    }
+
+    private byte[] get(BucketType type, String key) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long size = backend.get(type, key, Channels.newChannel(out));
+        assertEquals(CONTENT.length, size);
+        return out.toByteArray();
+    }
+
+    private static void assertInvalid(Executable action) {
+        BusinessException e = assertThrows(BusinessException.class, action);
+        assertEquals(ResponseStatusEnum.INVALID_FILE, e.getStatus());
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.assetManagementSystemServer.service.user;
+
+import com.example.assetManagementSystemServer.dto.TokenDTO;
+import com.example.assetManagementSystemServer.entity.user.RefreshToken;
+import com.example.assetManagementSystemServer.entity.user.User;
+import com.example.assetManagementSystemServer.enums.ResponseStatusEnum;
+import com.example.assetManagementSystemServer.enums.RoleEnum;
+import com.example.assetManagementSystemServer.exception.BusinessException;
+import com.example.assetManagementSystemServer.repository.user.RefreshTokenRepository;
+import com.example.assetManagementSystemServer.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTest {
+
+    /**
+     * 以摘要为键的内存表，模拟 refresh_token
+     */
+    private final Map<String, RefreshToken> tokens = new HashMap<>();
+
+    private final User user = new User();
+
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        user.setId(1L);
+        user.setUserName("alice");
+        user.setRole(RoleEnum.STAFF);
+        user.setStatus(true);
+        user.setSecurityVersion(3);
+
+        RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+        when(repository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            tokens.put(token.getTokenHash(), token);
+            return token;
+        });
+        when(repository.findByTokenHash(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(tokens.get(invocation.<String>getArgument(0))));
+        when(repository.deleteByTokenHash(anyString()))
+                .thenAnswer(invocation -> tokens.remove(invocation.<String>getArgument(0)) == null ? 0 : 1);
+
+        UserCache userCache = mock(UserCache.class);
+        when(userCache.findById(1L)).thenAnswer(invocation -> Optional.of(user));
+
+        JwtUtil jwtUtil = mock(JwtUtil.class);
+        when(jwtUtil.generateToken(anyString(), anyLong(), anyBoolean(), any(), anyLong())).thenReturn("access");
+
+        service = new RefreshTokenService(repository, userCache, jwtUtil);
+        ReflectionTestUtils.setField(service, "refreshExpiration", 60_000L);
+    }
+
+    @Test
+    void rotatesAndRejectsReuse() {
+        TokenDTO issued = service.issue(user);
+
+        TokenDTO rotated = service.refresh(issued.getRefreshToken());
+        assertNotEquals(issued.getRefreshToken(), rotated.getRefreshToken());
+        assertEquals(1, tokens.size());
+
+        // 旧刷新令牌已被消费，重放即拒绝；新令牌仍可继续轮换
+        assertInvalid(issued.getRefreshToken());
+        TokenDTO again = service.refresh(rotated.getRefreshToken());
+        assertInvalid(rotated.getRefreshToken());
+        assertEquals(1, tokens.size());
+        assertNotEquals(rotated.getRefreshToken(), again.getRefreshToken());
+    }
+
+    @Test
+    void rejectsAfterSecurityVersionChange() {
+        TokenDTO issued = service.issue(user);
+        user.setSecurityVersion(4);
+
+        assertInvalid(issued.getRefreshToken());
+        // 校验失败的令牌同样已被消费，不能在版本恢复后再次使用
+        user.setSecurityVersion(3);
+        assertInvalid(issued.getRefreshToken());
+    }
+
+    @Test
+    void rejectsDisabledUser() {
+        TokenDTO issued = service.issue(user);
+        user.setStatus(false);
+
+        assertInvalid(issued.getRefreshToken());
+    }
+
+    @Test
+    void rejectsExpiredAndUnknownTokens() {
+        TokenDTO issued = service.issue(user);
+        tokens.values().forEach(token -> token.setExpiresAt(LocalDateTime.now().minusSeconds(1)));
+
+        assertInvalid(issued.getRefreshToken());
+        assertInvalid("not-a-token");
+    }
+
+    private void assertInvalid(String rawToken) {
+        BusinessException e = assertThrows(BusinessException.class, () -> service.refresh(rawToken));
+        assertEquals(ResponseStatusEnum.INVALID_REFRESH_TOKEN, e.getStatus());
+    }
+}
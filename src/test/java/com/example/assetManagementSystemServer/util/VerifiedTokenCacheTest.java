@@ -0,0 +1,46 @@
+package com.example.assetManagementSystemServer.util;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class VerifiedTokenCacheTest {
+
+    private static final Algorithm ALGORITHM = Algorithm.HMAC256("test-secret");
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache();
+
+    @Test
+    void returnsCachedTokenUntilExpiry() {
+        String token = JWT.create().withSubject("alice").withExpiresAt(Instant.now().plusSeconds(60)).sign(ALGORITHM);
+        DecodedJWT decoded = JWT.decode(token);
+
+        assertNull(cache.get(token));
+        cache.put(token, decoded);
+        assertSame(decoded, cache.get(token));
+        assertEquals(1, cache.tokens().stats().hitCount());
+        assertEquals(1, cache.tokens().stats().missCount());
+    }
+
+    @Test
+    void expiresAtTokenExp() {
+        String token = JWT.create().withSubject("alice").withExpiresAt(Instant.now().minusSeconds(1)).sign(ALGORITHM);
+        cache.put(token, JWT.decode(token));
+        assertNull(cache.get(token));
+    }
+
+    @Test
+    void skipsTokensWithoutExp() {
+        String token = JWT.create().withSubject("alice").sign(ALGORITHM);
+        cache.put(token, JWT.decode(token));
+        assertNull(cache.get(token));
+        assertEquals(0, cache.tokens().estimatedSize());
+    }
+}